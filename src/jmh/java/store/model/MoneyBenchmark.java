@@ -0,0 +1,63 @@
+package store.model;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+    private static final int LINES = 64;
+
+    private final int[] intPrices = new int[LINES];
+    private final int[] quantities = new int[LINES];
+    private final Money[] moneyPrices = new Money[LINES];
+
+    @Setup
+    public void setUp() {
+        for (int line = 0; line < LINES; line++) {
+            intPrices[line] = 500 + line * 100;
+            quantities[line] = 1 + line % 7;
+            moneyPrices[line] = Money.of(intPrices[line]);
+        }
+    }
+
+    @Benchmark
+    public int intTotal() {
+        int total = 0;
+        for (int line = 0; line < LINES; line++) {
+            total += intPrices[line] * quantities[line];
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long exactLongTotal() {
+        long total = 0;
+        for (int line = 0; line < LINES; line++) {
+            total = Money.addExact(total, Money.multiplyExact(moneyPrices[line].getAmount(), quantities[line]));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long moneyTotal() {
+        Money total = Money.ZERO;
+        for (int line = 0; line < LINES; line++) {
+            total = total.plus(moneyPrices[line].times(quantities[line]));
+        }
+        return total.getAmount();
+    }
+}
@@ -1,27 +1,124 @@
 package store;
 
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import store.controller.RetryPolicy;
 import store.controller.StoreController;
+import store.model.PresetAnswers;
+import store.model.ProductQuery;
+import store.service.CatalogReloader;
+import store.service.InventoryExporter;
 import store.service.OrderService;
 import store.service.ProductService;
+import store.service.PromotionExpiryJob;
+import store.service.ReceiptArchive;
+import store.simulation.StartupWarmUp;
 import store.util.FileReader;
+import store.util.StoreClock;
 import store.view.InputView;
 import store.view.OutputView;
 
 public class Application {
+    private static final String RECEIPT_ARCHIVE_PROPERTY = "store.receipt.archive";
+    private static final String SALES_EXPORT_PROPERTY = "store.sales.export";
+    private static final String PRESET_ANSWERS_PROPERTY = "store.answers";
+    private static final String INVENTORY_EXPORT_PROPERTY = "store.inventory.export";
+    private static final String INVENTORY_FORMAT_PROPERTY = "store.inventory.format";
+    private static final String PRODUCT_LISTING_PROPERTY = "store.listing";
+    private static final String MAX_RETRIES_PROPERTY = "store.max.retries";
+    private static final String HOT_PRODUCTS_PROPERTY = "store.hot.products";
+    private static final String CLOCK_PROPERTY = "store.clock";
+    private static final String WARM_UP_PROPERTY = "store.warmup";
+    private static final String LIST_DELIMITER = ",";
+
     public static void main(String[] args) {
         FileReader fileReader = new FileReader();
-        ProductService productService = new ProductService(fileReader);
+        ProductService productService = new ProductService(fileReader, storeClock());
+        enableShardedStock(productService);
+        warmUp(productService);
         OrderService orderService = new OrderService(productService);
+        presetAnswers(orderService);
+        productQuery(orderService);
         InputView inputView = new InputView();
         OutputView outputView = new OutputView();
 
-        StoreController storeController = new StoreController(
-                productService,
-                orderService,
-                inputView,
-                outputView
-        );
+        try (CatalogReloader catalogReloader = new CatalogReloader(productService, fileReader);
+             ReceiptArchive receiptArchive = openReceiptArchive();
+             PromotionExpiryJob promotionExpiryJob = new PromotionExpiryJob(productService)) {
+            StoreController storeController = new StoreController(
+                    productService,
+                    orderService,
+                    inputView,
+                    outputView,
+                    receiptArchive,
+                    retryPolicy()
+            );
+            catalogReloader.startWatching();
+            promotionExpiryJob.start();
+            storeController.run();
+        }
+        exportSales(orderService);
+        exportInventory(productService);
+    }
+
+    private static void warmUp(ProductService productService) {
+        Optional.ofNullable(Integer.getInteger(WARM_UP_PROPERTY))
+                .filter(rounds -> rounds > 0)
+                .ifPresent(new StartupWarmUp(productService)::run);
+    }
+
+    private static StoreClock storeClock() {
+        return Optional.ofNullable(System.getProperty(CLOCK_PROPERTY))
+                .map(StoreClock::parse)
+                .orElseGet(StoreClock::system);
+    }
+
+    private static void enableShardedStock(ProductService productService) {
+        Optional.ofNullable(System.getProperty(HOT_PRODUCTS_PROPERTY))
+                .map(names -> Arrays.stream(names.split(LIST_DELIMITER))
+                        .map(String::trim)
+                        .filter(name -> !name.isEmpty())
+                        .toList())
+                .ifPresent(productService::enableShardedStock);
+    }
+
+    private static RetryPolicy retryPolicy() {
+        return Optional.ofNullable(Integer.getInteger(MAX_RETRIES_PROPERTY))
+                .map(RetryPolicy::of)
+                .orElseGet(RetryPolicy::unlimited);
+    }
+
+    private static void productQuery(OrderService orderService) {
+        Optional.ofNullable(System.getProperty(PRODUCT_LISTING_PROPERTY))
+                .map(ProductQuery::parse)
+                .ifPresent(orderService::productQuery);
+    }
+
+    private static void presetAnswers(OrderService orderService) {
+        Optional.ofNullable(System.getProperty(PRESET_ANSWERS_PROPERTY))
+                .map(PresetAnswers::parse)
+                .ifPresent(orderService::presetAnswers);
+    }
+
+    private static void exportSales(OrderService orderService) {
+        Optional.ofNullable(System.getProperty(SALES_EXPORT_PROPERTY))
+                .map(Path::of)
+                .ifPresent(orderService.getSalesAggregator()::exportCsv);
+    }
+
+    private static void exportInventory(ProductService productService) {
+        InventoryExporter.Format format = InventoryExporter.Format.from(
+                System.getProperty(INVENTORY_FORMAT_PROPERTY, InventoryExporter.Format.CSV.name()));
+        Optional.ofNullable(System.getProperty(INVENTORY_EXPORT_PROPERTY))
+                .map(Path::of)
+                .ifPresent(target -> new InventoryExporter(productService).export(target, format));
+    }
 
-        storeController.run();
+    private static ReceiptArchive openReceiptArchive() {
+        return Optional.ofNullable(System.getProperty(RECEIPT_ARCHIVE_PROPERTY))
+                .map(Path::of)
+                .map(ReceiptArchive::open)
+                .orElse(null);
     }
 }
\ No newline at end of file
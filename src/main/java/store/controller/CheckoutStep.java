@@ -0,0 +1,21 @@
+package store.controller;
+
+enum CheckoutStep {
+    READ,
+    PARSE,
+    CONFIRM,
+    PAY,
+    CONTINUE,
+    DONE;
+
+    CheckoutStep retryStep() {
+        return switch (this) {
+            case CONFIRM, CONTINUE -> this;
+            default -> READ;
+        };
+    }
+
+    boolean completesAttempt() {
+        return this != READ;
+    }
+}
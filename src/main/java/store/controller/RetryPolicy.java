@@ -0,0 +1,15 @@
+package store.controller;
+
+public record RetryPolicy(int maxConsecutiveFailures) {
+    public static RetryPolicy unlimited() {
+        return new RetryPolicy(Integer.MAX_VALUE);
+    }
+
+    public static RetryPolicy of(int maxConsecutiveFailures) {
+        return new RetryPolicy(Math.max(1, maxConsecutiveFailures));
+    }
+
+    public boolean allowsRetry(int consecutiveFailures) {
+        return consecutiveFailures < maxConsecutiveFailures;
+    }
+}
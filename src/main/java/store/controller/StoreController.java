@@ -1,33 +1,68 @@
 package store.controller;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 import store.exception.ErrorCode;
+import store.model.Money;
 import store.model.OrderRequest;
-import store.model.YesNo;
+import store.model.ProductPage;
+import store.model.ProductQuery;
+import store.model.Prompt;
+import store.service.CheckoutContext;
 import store.service.OrderService;
 import store.service.ProductService;
 import store.service.ProductService.OrderProcessingResult;
+import store.service.ReceiptArchive;
 import store.util.OrderParser;
 import store.view.InputView;
 import store.view.OutputView;
 
 public class StoreController {
+    private static final String NEXT_PAGE = ">";
+    private static final String PREVIOUS_PAGE = "<";
+
     private final ProductService productService;
     private final OrderService orderService;
     private final InputView inputView;
     private final OutputView outputView;
+    private final ReceiptArchive receiptArchive;
+    private final RetryPolicy retryPolicy;
 
     public StoreController(
             ProductService productService,
             OrderService orderService,
             InputView inputView,
             OutputView outputView
+    ) {
+        this(productService, orderService, inputView, outputView, null);
+    }
+
+    public StoreController(
+            ProductService productService,
+            OrderService orderService,
+            InputView inputView,
+            OutputView outputView,
+            ReceiptArchive receiptArchive
+    ) {
+        this(productService, orderService, inputView, outputView, receiptArchive, RetryPolicy.unlimited());
+    }
+
+    public StoreController(
+            ProductService productService,
+            OrderService orderService,
+            InputView inputView,
+            OutputView outputView,
+            ReceiptArchive receiptArchive,
+            RetryPolicy retryPolicy
     ) {
         this.productService = productService;
         this.orderService = orderService;
         this.inputView = inputView;
         this.outputView = outputView;
+        this.receiptArchive = receiptArchive;
+        this.retryPolicy = retryPolicy;
     }
 
     public void run() {
@@ -41,34 +76,125 @@ public class StoreController {
     }
 
     private void displayProducts() {
-        Optional.of(productService)
-                .map(ProductService::getProducts)
-                .ifPresent(products -> products.forEach(outputView::printProductList));
+        ProductQuery query = orderService.getProductQuery();
+        ProductPage page = currentPage(query);
+        page.products().forEach(outputView::printProductList);
+        Optional.of(page)
+                .filter(p -> query.isPaged())
+                .ifPresent(outputView::printPageFooter);
+    }
+
+    private ProductPage currentPage(ProductQuery query) {
+        return productService.getInventorySnapshot().query(query);
     }
 
     private void processOrderCycle() {
-        do {
-            processOneOrder();
-        } while (checkContinueOrder());
+        CheckoutState state = new CheckoutState();
+        CheckoutStep step = CheckoutStep.READ;
+        while (step != CheckoutStep.DONE) {
+            step = runStep(step, state);
+        }
     }
 
-    private void processOneOrder() {
+    private CheckoutStep runStep(CheckoutStep step, CheckoutState state) {
         try {
-            processOrderAndComplete();
+            CheckoutStep next = execute(step, state);
+            resetFailuresAfter(step, state);
+            return next;
         } catch (IllegalArgumentException e) {
-            handleOrderError(e);
+            return handleStepError(step, state, e);
         }
     }
 
-    private void processOrderAndComplete() {
-        Optional.of(readAndParseOrder())
+    private void resetFailuresAfter(CheckoutStep step, CheckoutState state) {
+        Optional.of(step)
+                .filter(CheckoutStep::completesAttempt)
+                .ifPresent(completed -> state.consecutiveFailures = 0);
+    }
+
+    private CheckoutStep execute(CheckoutStep step, CheckoutState state) {
+        return switch (step) {
+            case READ -> readOrder(state);
+            case PARSE -> parseOrder(state);
+            case CONFIRM -> confirmOrder(state);
+            case PAY -> payOrder(state);
+            case CONTINUE -> continueOrder();
+            case DONE -> CheckoutStep.DONE;
+        };
+    }
+
+    private CheckoutStep readOrder(CheckoutState state) {
+        orderService.beginAttempt();
+        state.input = inputView.readFirstOrder();
+        Optional<ProductQuery> turnedPage = turnPage(state.input);
+        turnedPage.ifPresent(this::displayPage);
+        return turnedPage.map(query -> CheckoutStep.READ)
+                .orElse(CheckoutStep.PARSE);
+    }
+
+    private Optional<ProductQuery> turnPage(String input) {
+        ProductQuery query = orderService.getProductQuery();
+        return Optional.ofNullable(input)
+                .map(String::strip)
+                .filter(command -> query.isPaged())
+                .flatMap(command -> switch (command) {
+                    case NEXT_PAGE -> Optional.of(query)
+                            .filter(current -> currentPage(current).hasNext())
+                            .map(ProductQuery::nextPage)
+                            .or(() -> Optional.of(query));
+                    case PREVIOUS_PAGE -> Optional.of(query.previousPage());
+                    default -> Optional.empty();
+                });
+    }
+
+    private void displayPage(ProductQuery query) {
+        orderService.productQuery(query);
+        displayProducts();
+    }
+
+    private CheckoutStep parseOrder(CheckoutState state) {
+        Optional.of(parseOrders(state.input))
                 .map(this::validateAndProcessOrders)
                 .ifPresent(this::applyProcessedOrders);
-        completeOrder();
+        return CheckoutStep.CONFIRM;
     }
 
-    private List<OrderRequest> readAndParseOrder() {
-        return Optional.of(inputView.readFirstOrder())
+    private CheckoutStep confirmOrder(CheckoutState state) {
+        state.useMembership = confirmMembership();
+        return CheckoutStep.PAY;
+    }
+
+    private CheckoutStep payOrder(CheckoutState state) {
+        OrderSummary summary = calculateOrderSummary(state.useMembership);
+        finalizePendingOrders(summary);
+        printOrderResult(summary);
+        return CheckoutStep.CONTINUE;
+    }
+
+    private CheckoutStep continueOrder() {
+        return Optional.of(checkContinueOrder())
+                .filter(shouldContinue -> shouldContinue)
+                .map(shouldContinue -> CheckoutStep.READ)
+                .orElse(CheckoutStep.DONE);
+    }
+
+    private CheckoutStep handleStepError(CheckoutStep step, CheckoutState state, IllegalArgumentException e) {
+        outputView.printError(e.getMessage());
+        state.consecutiveFailures++;
+        return Optional.of(state.consecutiveFailures)
+                .filter(retryPolicy::allowsRetry)
+                .map(failures -> step.retryStep())
+                .orElseGet(this::abandonCheckout);
+    }
+
+    private CheckoutStep abandonCheckout() {
+        orderService.clearCart();
+        outputView.printError(ErrorCode.TOO_MANY_FAILED_ATTEMPTS.getMessage());
+        return CheckoutStep.DONE;
+    }
+
+    private List<OrderRequest> parseOrders(String input) {
+        return Optional.ofNullable(input)
                 .map(OrderParser::parseOrders)
                 .orElseThrow(() -> new IllegalArgumentException(ErrorCode.INVALID_ORDER_FORMAT.getMessage()));
     }
@@ -82,18 +208,38 @@ public class StoreController {
 
     private Optional<ProcessedOrder> processRequest(OrderRequest request) {
         return Optional.of(request)
+                .map(this::correctProductName)
                 .map(this::validateRequest)
                 .map(this::createProcessedOrder);
     }
 
+    private OrderRequest correctProductName(OrderRequest request) {
+        return Optional.of(request)
+                .filter(req -> productService.hasProduct(checkoutContext(), req.productName()))
+                .or(() -> suggestCorrection(request))
+                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.NON_EXISTENT_PRODUCT.getMessage()));
+    }
+
+    private Optional<OrderRequest> suggestCorrection(OrderRequest request) {
+        return productService.suggestProductNames(checkoutContext(), request.productName()).stream()
+                .findFirst()
+                .filter(suggestion -> answer(Prompt.SUGGESTION,
+                        () -> inputView.readSuggestion(request.productName(), suggestion)))
+                .map(suggestion -> new OrderRequest(suggestion, request.quantity()));
+    }
+
     private OrderRequest validateRequest(OrderRequest request) {
         return Optional.of(request)
                 .filter(req -> isStockAvailable(req))
                 .orElseThrow(() -> new IllegalArgumentException(ErrorCode.INVENTORY_QUANTITY_EXCEEDED.getMessage()));
     }
 
+    private CheckoutContext checkoutContext() {
+        return orderService.getCheckoutContext();
+    }
+
     private boolean isStockAvailable(OrderRequest request) {
-        return productService.checkStock(request.productName(), request.quantity());
+        return productService.checkStock(checkoutContext(), request.productName(), request.quantity());
     }
 
     private ProcessedOrder createProcessedOrder(OrderRequest request) {
@@ -102,7 +248,8 @@ public class StoreController {
     }
 
     private OrderProcessingResult processOrderWithPromotion(OrderRequest request) {
-        OrderProcessingResult initialResult = productService.processOrder(request.productName(), request.quantity());
+        OrderProcessingResult initialResult = productService.processOrder(checkoutContext(), request.productName(),
+                request.quantity());
 
         return Optional.of(request)
                 .filter(this::isMDPromotionProduct)
@@ -112,23 +259,27 @@ public class StoreController {
     }
 
     private boolean isMDPromotionProduct(OrderRequest request) {
-        return productService.isMDRecommendationPromotion(request.productName());
+        return productService.isMDRecommendationPromotion(checkoutContext(), request.productName());
     }
 
     private boolean confirmAdditionalItem(OrderRequest request) {
-        return Optional.of(inputView.readAdditionalOption(request.productName()))
-                .map(YesNo::from)
-                .map(YesNo::isYes)
-                .orElse(false);
+        return answer(Prompt.ADDITIONAL_ITEM, () -> inputView.readAdditionalOption(request.productName()));
+    }
+
+    private boolean answer(Prompt prompt, Supplier<String> reader) {
+        return orderService.getPresetAnswers()
+                .answer(prompt, reader)
+                .isYes();
     }
 
     private OrderProcessingResult processWithAdditionalItem(OrderRequest request) {
         int totalQuantity = calculateTotalQuantity(request);
-        return productService.processOrder(request.productName(), totalQuantity);
+        return productService.processOrder(checkoutContext(), request.productName(), totalQuantity);
     }
 
     private int calculateTotalQuantity(OrderRequest request) {
-        int additionalQuantity = productService.getPromotionalFreeQuantity(request.productName());
+        int additionalQuantity = productService.getPromotionalFreeQuantity(checkoutContext(),
+                request.productName());
         return request.quantity() + additionalQuantity;
     }
 
@@ -143,52 +294,46 @@ public class StoreController {
         );
     }
 
-    private void completeOrder() {
-        boolean useMembership = confirmMembership();
-        printOrderResult(useMembership);
-        finalizePendingOrders();
-    }
-
     private boolean confirmMembership() {
-        return Optional.of(inputView.readMembershipOption())
-                .map(YesNo::from)
-                .map(YesNo::isYes)
-                .orElse(false);
+        return answer(Prompt.MEMBERSHIP, inputView::readMembershipOption);
     }
 
-    private void printOrderResult(boolean useMembership) {
-        OrderSummary summary = calculateOrderSummary(useMembership);
+    private void printOrderResult(OrderSummary summary) {
         outputView.printReceipt(
                 orderService.getCart(),
                 summary.totalPrice(),
                 summary.promotionDiscount(),
-                summary.membershipDiscount()
+                summary.membershipDiscount(),
+                this::archiveReceipt
         );
     }
 
+    private void archiveReceipt(ByteBuffer receipt) {
+        Optional.ofNullable(receiptArchive)
+                .ifPresent(archive -> archive.append(receipt, productService.getClock().now()));
+    }
+
     private OrderSummary calculateOrderSummary(boolean useMembership) {
-        int totalPrice = orderService.calculateTotalPrice();
-        int promotionDiscount = orderService.calculatePromotionDiscount();
-        int membershipDiscount = calculateMembershipDiscount(useMembership, totalPrice, promotionDiscount);
+        Money totalPrice = orderService.calculateTotalPrice();
+        Money promotionDiscount = orderService.calculatePromotionDiscount();
+        Money membershipDiscount = calculateMembershipDiscount(useMembership, totalPrice, promotionDiscount);
 
         return new OrderSummary(totalPrice, promotionDiscount, membershipDiscount);
     }
 
-    private int calculateMembershipDiscount(boolean useMembership, int totalPrice, int promotionDiscount) {
+    private Money calculateMembershipDiscount(boolean useMembership, Money totalPrice, Money promotionDiscount) {
         return Optional.of(useMembership)
                 .filter(use -> use)
                 .map(use -> orderService.calculateMembershipDiscount(totalPrice, promotionDiscount))
-                .orElse(0);
+                .orElse(Money.ZERO);
     }
 
-    private void finalizePendingOrders() {
-        orderService.applyPendingOrders();
+    private void finalizePendingOrders(OrderSummary summary) {
+        orderService.applyPendingOrders(summary.membershipDiscount());
     }
 
     private boolean checkContinueOrder() {
-        return Optional.of(inputView.readContinueOrder())
-                .map(YesNo::from)
-                .map(YesNo::isYes)
+        return Optional.of(answer(Prompt.CONTINUE, inputView::readContinueOrder))
                 .map(this::prepareNextOrderIfNeeded)
                 .orElse(false);
     }
@@ -206,11 +351,12 @@ public class StoreController {
         displayInitialScreen();
     }
 
-    private void handleOrderError(IllegalArgumentException e) {
-        outputView.printError(e.getMessage());
-        processOneOrder();
+    private static class CheckoutState {
+        private String input;
+        private boolean useMembership;
+        private int consecutiveFailures;
     }
 
     private record ProcessedOrder(OrderRequest request, OrderProcessingResult result) {}
-    private record OrderSummary(int totalPrice, int promotionDiscount, int membershipDiscount) {}
+    private record OrderSummary(Money totalPrice, Money promotionDiscount, Money membershipDiscount) {}
 }
\ No newline at end of file
@@ -10,7 +10,21 @@ public enum ErrorCode {
     START_DATE_SHOULD_BE_BEFORE_END_DATE("[ERROR] 시작 날짜는 종료 날짜보다 이전이어야 합니다."),
     INVALID_PROMOTION_NAME("[ERROR] 유효하지 않은 프로모션 이름입니다."),
     MEMBERSHIP_YES_OR_NO_CHECK("[ERROR] Y 또는 N으로 입력해주세요."),
+    TOO_MANY_FAILED_ATTEMPTS("[ERROR] 잘못된 입력이 반복되어 주문을 종료합니다."),
+    INVALID_PRESET_ANSWER("[ERROR] 미리 지정한 응답 형식이 올바르지 않습니다."),
+    INVALID_PRODUCT_QUERY("[ERROR] 상품 목록 조회 조건이 올바르지 않습니다."),
     FAILED_TO_READ_PRODUCT("[ERROR] 상품 정보를 읽어올 수 없습니다."),
+    FAILED_TO_PRINT_RECEIPT("[ERROR] 영수증을 출력할 수 없습니다."),
+    FAILED_TO_WATCH_CATALOG("[ERROR] 상품 파일 변경을 감지할 수 없습니다."),
+    FAILED_TO_ACCESS_RECEIPT_ARCHIVE("[ERROR] 영수증 보관소에 접근할 수 없습니다."),
+    AMOUNT_OVERFLOW("[ERROR] 금액이 허용 범위를 초과했습니다."),
+    SESSION_EXPIRED("[ERROR] 오랫동안 입력이 없어 주문이 초기화되었습니다. 다시 입력해 주세요."),
+    TOO_MANY_SESSIONS("[ERROR] 동시에 처리할 수 있는 주문 수를 초과했습니다. 잠시 후 다시 시도해 주세요."),
+    FAILED_TO_EXPORT_INVENTORY("[ERROR] 재고 현황을 내보낼 수 없습니다."),
+    FAILED_TO_READ_INVENTORY("[ERROR] 재고 현황 파일을 읽을 수 없습니다."),
+    INVALID_EXPORT_FORMAT("[ERROR] 지원하지 않는 내보내기 형식입니다."),
+    INVALID_CLOCK("[ERROR] 시계 설정 형식이 올바르지 않습니다."),
+    FAILED_TO_EXPORT_SALES("[ERROR] 판매 집계를 내보낼 수 없습니다."),
     ORDER_NOT_FOUND("[ERROR] 주문 정보를 찾을 수 없습니다.");
 
     private final String message;
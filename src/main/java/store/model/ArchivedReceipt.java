@@ -0,0 +1,10 @@
+package store.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+public record ArchivedReceipt(long receiptNumber, LocalDateTime issuedAt, byte[] content) {
+    public String getText() {
+        return new String(content, StandardCharsets.UTF_8);
+    }
+}
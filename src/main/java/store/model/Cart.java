@@ -1,68 +1,169 @@
 package store.model;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.IntPredicate;
 import store.exception.ErrorCode;
-import store.validator.Validator;
-import java.util.stream.Collectors;
 
 public class Cart {
-    private final List<Order> orders;
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int PROMOTIONAL = 1;
+    private static final int PROMOTIONAL_GIFT = 1 << 1;
 
-    public Cart() {
-        this.orders = new ArrayList<>();
-    }
+    private final List<Product> products = new ArrayList<>();
+    private final List<Order> orderView = new OrderView();
+    private int[] productIds = new int[INITIAL_CAPACITY];
+    private int[] quantities = new int[INITIAL_CAPACITY];
+    private int[] flags = new int[INITIAL_CAPACITY];
+    private PromotionAllocation[] allocations = new PromotionAllocation[INITIAL_CAPACITY];
+    private int size;
 
     public void addOrder(Order order) {
         validateOrder(order);
-        Optional.ofNullable(order)
-                .ifPresent(orders::add);
+        ensureCapacity(size + 1);
+        productIds[size] = productIdOf(order.getProduct());
+        quantities[size] = order.getQuantity();
+        flags[size] = flagsOf(order);
+        allocations[size] = order.getAllocation();
+        size++;
+    }
+
+    private int productIdOf(Product product) {
+        for (int id = 0; id < products.size(); id++) {
+            if (products.get(id) == product) {
+                return id;
+            }
+        }
+        products.add(product);
+        return products.size() - 1;
+    }
+
+    private static int flagsOf(Order order) {
+        int orderFlags = 0;
+        if (order.isPromotional()) {
+            orderFlags |= PROMOTIONAL;
+        }
+        if (order.isPromotionalGift()) {
+            orderFlags |= PROMOTIONAL_GIFT;
+        }
+        return orderFlags;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= quantities.length) {
+            return;
+        }
+        int grown = Math.max(capacity, quantities.length * 2);
+        productIds = Arrays.copyOf(productIds, grown);
+        quantities = Arrays.copyOf(quantities, grown);
+        flags = Arrays.copyOf(flags, grown);
+        allocations = Arrays.copyOf(allocations, grown);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Product getProduct(int index) {
+        return products.get(productIds[checkIndex(index)]);
+    }
+
+    public int getQuantity(int index) {
+        return quantities[checkIndex(index)];
+    }
+
+    public PromotionAllocation getAllocation(int index) {
+        return allocations[checkIndex(index)];
+    }
+
+    public boolean isPromotional(int index) {
+        return (flags[checkIndex(index)] & PROMOTIONAL) != 0;
+    }
+
+    public boolean isPromotionalGift(int index) {
+        return (flags[checkIndex(index)] & PROMOTIONAL_GIFT) != 0;
+    }
+
+    public Money calculateTotalPrice(int index) {
+        return Money.of(getLineAmount(index));
+    }
+
+    public long getLineAmount(int index) {
+        if (isPromotionalGift(index)) {
+            return 0;
+        }
+        return Money.multiplyExact(getProduct(index).getPrice().getAmount(), quantities[index]);
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return index;
     }
 
     public List<Order> getOrders() {
-        return new ArrayList<>(orders);
+        return orderView;
     }
 
     public List<Order> getPromotionalOrders() {
-        return Optional.of(orders)
-                .map(List::stream)
-                .map(stream -> stream
-                        .filter(Order::isPromotional)
-                        .filter(order -> order.getProduct().hasPromotion())
-                        .collect(Collectors.toList()))
-                .orElseGet(ArrayList::new);
+        return collect(index -> isPromotional(index) && getProduct(index).hasPromotion());
     }
 
     public List<Order> getNormalOrders() {
-        return Optional.of(orders)
-                .map(List::stream)
-                .map(stream -> stream
-                        .filter(order -> !order.getProduct().hasPromotion())
-                        .collect(Collectors.toList()))
-                .orElseGet(ArrayList::new);
+        return collect(index -> !getProduct(index).hasPromotion());
+    }
+
+    private List<Order> collect(IntPredicate filter) {
+        List<Order> orders = new ArrayList<>();
+        for (int index = 0; index < size; index++) {
+            if (filter.test(index)) {
+                orders.add(orderView.get(index));
+            }
+        }
+        return orders;
     }
 
-    public int calculateTotalPrice() {
-        return Optional.of(orders)
-                .map(List::stream)
-                .map(stream -> stream
-                        .mapToInt(Order::calculateTotalPrice)
-                        .sum())
-                .orElse(0);
+    public Money calculateTotalPrice() {
+        long total = 0;
+        for (int index = 0; index < size; index++) {
+            total = Money.addExact(total, getLineAmount(index));
+        }
+        return Money.of(total);
     }
 
     public int getTotalQuantity() {
-        return Optional.of(orders)
-                .map(List::stream)
-                .map(stream -> stream
-                        .mapToInt(Order::getQuantity)
-                        .sum())
-                .orElse(0);
+        int total = 0;
+        for (int index = 0; index < size; index++) {
+            total += quantities[index];
+        }
+        return total;
+    }
+
+    public void clear() {
+        Arrays.fill(allocations, 0, size, null);
+        products.clear();
+        size = 0;
     }
 
     private void validateOrder(Order order) {
         Optional.ofNullable(order)
                 .orElseThrow(() -> new IllegalArgumentException(ErrorCode.ORDER_DOES_NOT_EXIST.getMessage()));
     }
-}
\ No newline at end of file
+
+    private class OrderView extends AbstractList<Order> {
+        @Override
+        public Order get(int index) {
+            return new Order(getProduct(index), quantities[index], isPromotional(index), isPromotionalGift(index),
+                    allocations[index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package store.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import store.util.NameSearchIndex;
+
+public class Catalog {
+    private final long version;
+    private final List<Product> products;
+    private final Map<String, Promotion> promotions;
+    private volatile NameSearchIndex nameIndex;
+
+    private Catalog(long version, List<Product> products, Map<String, Promotion> promotions) {
+        this.version = version;
+        this.products = List.copyOf(products);
+        this.promotions = Map.copyOf(promotions);
+    }
+
+    public static Catalog of(List<Product> products, List<Promotion> promotions) {
+        return new Catalog(0, products, toPromotionMap(promotions));
+    }
+
+    public Catalog replace(List<Product> products, List<Promotion> promotions) {
+        return new Catalog(version + 1, products, toPromotionMap(promotions));
+    }
+
+    public Catalog withProducts(List<Product> products) {
+        return new Catalog(version + 1, products, promotions);
+    }
+
+    private static Map<String, Promotion> toPromotionMap(List<Promotion> promotions) {
+        return promotions.stream()
+                .collect(Collectors.toMap(Promotion::getName, Function.identity()));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<Product> getProducts() {
+        return products;
+    }
+
+    public List<Promotion> getPromotions() {
+        return List.copyOf(promotions.values());
+    }
+
+    public Optional<Promotion> findPromotion(Product product) {
+        return Optional.of(product)
+                .filter(Product::hasPromotion)
+                .map(Product::getPromotion)
+                .map(promotions::get);
+    }
+
+    public Optional<Promotion> findValidPromotion(Product product, LocalDateTime now) {
+        return findPromotion(product)
+                .filter(promotion -> promotion.isValid(now));
+    }
+
+    public Optional<Product> findAvailableProduct(String name, LocalDateTime now) {
+        List<Product> availableProducts = rowsOf(name)
+                .filter(product -> product.getTotalStock() > 0)
+                .toList();
+        return availableProducts.stream()
+                .filter(product -> findValidPromotion(product, now).isPresent())
+                .findFirst()
+                .or(() -> availableProducts.stream()
+                        .filter(product -> !product.hasPromotion())
+                        .findFirst());
+    }
+
+    public List<String> suggestNames(String query, int limit) {
+        return nameIndex().suggest(query, limit);
+    }
+
+    private NameSearchIndex nameIndex() {
+        NameSearchIndex index = nameIndex;
+        if (index == null) {
+            index = NameSearchIndex.of(products.stream().map(Product::getName).toList());
+            nameIndex = index;
+        }
+        return index;
+    }
+
+    public Optional<Product> findOriginalProduct(String name) {
+        return rowsOf(name).findFirst();
+    }
+
+    public Optional<Product> findPromotionProduct(String name, String promotionName) {
+        return rowsOf(name)
+                .filter(Product::hasPromotion)
+                .filter(product -> product.getPromotion().equals(promotionName))
+                .findFirst();
+    }
+
+    public List<PromotionCandidate> findPromotionCandidates(String name, LocalDateTime now) {
+        return rowsOf(name)
+                .filter(product -> product.getPromotionalStock() > 0)
+                .flatMap(product -> findValidPromotion(product, now).stream()
+                        .map(promotion -> new PromotionCandidate(promotion, product.getPromotionalStock())))
+                .toList();
+    }
+
+    public Optional<Product> findNormalProduct(String name) {
+        return rowsOf(name)
+                .filter(product -> !product.hasPromotion())
+                .findFirst();
+    }
+
+    private Stream<Product> rowsOf(String name) {
+        return products.stream()
+                .filter(product -> product.getName().equals(name));
+    }
+}
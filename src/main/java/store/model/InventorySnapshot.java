@@ -0,0 +1,147 @@
+package store.model;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class InventorySnapshot {
+    private static final int CHUNK_BITS = 5;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final long version;
+    private final int size;
+    private final StockSnapshot[][] chunks;
+    private final String[] sortedNames;
+    private final int[] nameOrder;
+
+    private InventorySnapshot(long version, int size, StockSnapshot[][] chunks, String[] sortedNames,
+                              int[] nameOrder) {
+        this.version = version;
+        this.size = size;
+        this.chunks = chunks;
+        this.sortedNames = sortedNames;
+        this.nameOrder = nameOrder;
+    }
+
+    public static InventorySnapshot of(long version, List<StockSnapshot> entries) {
+        int chunkCount = (entries.size() + CHUNK_MASK) >>> CHUNK_BITS;
+        StockSnapshot[][] chunks = new StockSnapshot[chunkCount][];
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            int from = chunk << CHUNK_BITS;
+            int to = Math.min(from + CHUNK_SIZE, entries.size());
+            chunks[chunk] = entries.subList(from, to).toArray(StockSnapshot[]::new);
+        }
+        int[] nameOrder = IntStream.range(0, entries.size())
+                .boxed()
+                .sorted(Comparator.comparing((Integer index) -> entries.get(index).name())
+                        .thenComparingInt(index -> index))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        String[] sortedNames = Arrays.stream(nameOrder)
+                .mapToObj(index -> entries.get(index).name())
+                .toArray(String[]::new);
+        return new InventorySnapshot(version, entries.size(), chunks, sortedNames, nameOrder);
+    }
+
+    public InventorySnapshot with(int index, StockSnapshot entry) {
+        return with(Map.of(index, entry));
+    }
+
+    public InventorySnapshot with(Map<Integer, StockSnapshot> entries) {
+        entries.keySet().forEach(this::validateIndex);
+        StockSnapshot[][] copiedChunks = chunks.clone();
+        entries.forEach((index, entry) -> {
+            int chunk = index >>> CHUNK_BITS;
+            if (copiedChunks[chunk] == chunks[chunk]) {
+                copiedChunks[chunk] = Arrays.copyOf(chunks[chunk], chunks[chunk].length);
+            }
+            copiedChunks[chunk][index & CHUNK_MASK] = entry;
+        });
+        return new InventorySnapshot(version + 1, size, copiedChunks, sortedNames, nameOrder);
+    }
+
+    public StockSnapshot get(int index) {
+        validateIndex(index);
+        return chunks[index >>> CHUNK_BITS][index & CHUNK_MASK];
+    }
+
+    private void validateIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Stream<StockSnapshot> stream() {
+        return IntStream.range(0, size)
+                .mapToObj(this::get);
+    }
+
+    public ProductPage query(ProductQuery query) {
+        List<StockSnapshot> products = matching(query)
+                .limit(query.getPageSize() + 1L)
+                .toList();
+        boolean hasNext = products.size() > query.getPageSize();
+        if (hasNext) {
+            products = products.subList(0, query.getPageSize());
+        }
+        return new ProductPage(products, query.getPage(), hasNext);
+    }
+
+    private Stream<StockSnapshot> matching(ProductQuery query) {
+        IntStream candidates = query.getNamePrefix()
+                .map(this::indexesWithPrefix)
+                .orElseGet(() -> IntStream.range(0, size));
+        if (query.filtersByAttribute()) {
+            return candidates.mapToObj(this::get)
+                    .filter(query::matches)
+                    .skip(query.getOffset());
+        }
+        return candidates.skip(query.getOffset())
+                .mapToObj(this::get);
+    }
+
+    private IntStream indexesWithPrefix(String prefix) {
+        int from = firstNameAtOrAfter(prefix);
+        int to = from;
+        while (to < sortedNames.length && sortedNames[to].startsWith(prefix)) {
+            to++;
+        }
+        return Arrays.stream(nameOrder, from, to)
+                .sorted();
+    }
+
+    private int firstNameAtOrAfter(String name) {
+        int low = 0;
+        int high = sortedNames.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sortedNames[middle].compareTo(name) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    public int getTotalStock(String name) {
+        int total = 0;
+        for (int position = firstNameAtOrAfter(name);
+             position < sortedNames.length && sortedNames[position].equals(name); position++) {
+            total += get(nameOrder[position]).getTotalStock();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,4 @@
+package store.model;
+
+public record MembershipTier(long minimumAmount, int rate, long maxDiscount) {
+}
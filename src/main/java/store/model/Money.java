@@ -0,0 +1,101 @@
+package store.model;
+
+import store.exception.ErrorCode;
+
+public final class Money implements Comparable<Money> {
+    private static final long CACHE_STEP = 100;
+    private static final int CACHE_SIZE = 1001;
+    private static final Money[] CACHE = new Money[CACHE_SIZE];
+    public static final Money ZERO = new Money(0);
+
+    static {
+        CACHE[0] = ZERO;
+        for (int index = 1; index < CACHE_SIZE; index++) {
+            CACHE[index] = new Money(index * CACHE_STEP);
+        }
+    }
+
+    private final long amount;
+
+    private Money(long amount) {
+        this.amount = amount;
+    }
+
+    public static Money of(long amount) {
+        if (amount >= 0 && amount % CACHE_STEP == 0 && amount / CACHE_STEP < CACHE_SIZE) {
+            return CACHE[(int) (amount / CACHE_STEP)];
+        }
+        return new Money(amount);
+    }
+
+    public static long addExact(long left, long right) {
+        try {
+            return Math.addExact(left, right);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(ErrorCode.AMOUNT_OVERFLOW.getMessage());
+        }
+    }
+
+    public static long multiplyExact(long amount, long multiplier) {
+        try {
+            return Math.multiplyExact(amount, multiplier);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(ErrorCode.AMOUNT_OVERFLOW.getMessage());
+        }
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public Money plus(Money other) {
+        return of(addExact(amount, other.amount));
+    }
+
+    public Money minus(Money other) {
+        try {
+            return of(Math.subtractExact(amount, other.amount));
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(ErrorCode.AMOUNT_OVERFLOW.getMessage());
+        }
+    }
+
+    public Money times(long multiplier) {
+        return of(multiplyExact(amount, multiplier));
+    }
+
+    public Money negate() {
+        return ZERO.minus(this);
+    }
+
+    public Money min(Money other) {
+        if (compareTo(other) <= 0) {
+            return this;
+        }
+        return other;
+    }
+
+    public boolean isPositive() {
+        return amount > 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(amount, other.amount);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money money && amount == money.amount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(amount);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d원", amount);
+    }
+}
@@ -8,17 +8,28 @@ public class Order {
     private final int quantity;
     private final boolean isPromotional;
     private final boolean isPromotionalGift;
+    private final PromotionAllocation allocation;
 
     public Order(Product product, int quantity, boolean isPromotional) {
         this(product, quantity, isPromotional, false);
     }
 
     public Order(Product product, int quantity, boolean isPromotional, boolean isPromotionalGift) {
+        this(product, quantity, isPromotional, isPromotionalGift, PromotionAllocation.withoutPromotion(quantity, quantity));
+    }
+
+    public Order(Product product, int quantity, boolean isPromotional, PromotionAllocation allocation) {
+        this(product, quantity, isPromotional, false, allocation);
+    }
+
+    Order(Product product, int quantity, boolean isPromotional, boolean isPromotionalGift,
+          PromotionAllocation allocation) {
         validateOrderDetails(product, quantity);
         this.product = product;
         this.quantity = quantity;
         this.isPromotional = isPromotional;
         this.isPromotionalGift = isPromotionalGift;
+        this.allocation = allocation;
     }
 
     private void validateOrderDetails(Product product, int quantity) {
@@ -42,10 +53,18 @@ public class Order {
         return isPromotionalGift;
     }
 
-    public int calculateTotalPrice() {
+    public PromotionAllocation getAllocation() {
+        return allocation;
+    }
+
+    public int getFreeQuantity() {
+        return allocation.freeQuantity();
+    }
+
+    public Money calculateTotalPrice() {
         if (isPromotionalGift) {
-            return 0;
+            return Money.ZERO;
         }
-        return product.getPrice() * quantity;
+        return product.getPrice().times(quantity);
     }
 }
\ No newline at end of file
@@ -0,0 +1,35 @@
+package store.model;
+
+class PlainStock implements StockCounter {
+    private int stock;
+
+    PlainStock(int stock) {
+        this.stock = stock;
+    }
+
+    @Override
+    public int get() {
+        return stock;
+    }
+
+    @Override
+    public void add(int quantity) {
+        stock += quantity;
+    }
+
+    @Override
+    public boolean tryTake(int quantity) {
+        if (stock < quantity) {
+            return false;
+        }
+        stock -= quantity;
+        return true;
+    }
+
+    @Override
+    public int takeAll() {
+        int taken = stock;
+        stock = 0;
+        return taken;
+    }
+}
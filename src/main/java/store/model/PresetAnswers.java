@@ -0,0 +1,54 @@
+package store.model;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+import store.exception.ErrorCode;
+
+public class PresetAnswers {
+    private static final PresetAnswers NONE = new PresetAnswers(new YesNo[Prompt.values().length]);
+
+    private final YesNo[] answers;
+
+    private PresetAnswers(YesNo[] answers) {
+        this.answers = answers;
+    }
+
+    public static PresetAnswers none() {
+        return NONE;
+    }
+
+    public static PresetAnswers parse(String presets) {
+        YesNo[] answers = new YesNo[Prompt.values().length];
+        Arrays.stream(presets.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .forEach(entry -> put(answers, entry));
+        return new PresetAnswers(answers);
+    }
+
+    private static void put(YesNo[] answers, String entry) {
+        String[] parts = entry.split("=");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException(ErrorCode.INVALID_PRESET_ANSWER.getMessage());
+        }
+        answers[Prompt.fromKey(parts[0].trim()).ordinal()] = YesNo.decode(parts[1].trim());
+    }
+
+    public PresetAnswers with(Prompt prompt, YesNo answer) {
+        YesNo[] copied = answers.clone();
+        copied[prompt.ordinal()] = answer;
+        return new PresetAnswers(copied);
+    }
+
+    public boolean isPreset(Prompt prompt) {
+        return answers[prompt.ordinal()] != null;
+    }
+
+    public YesNo answer(Prompt prompt, Supplier<String> reader) {
+        YesNo preset = answers[prompt.ordinal()];
+        if (preset != null) {
+            return preset;
+        }
+        return YesNo.decode(reader.get());
+    }
+}
@@ -0,0 +1,3 @@
+package store.model;
+
+public record PricedCart(Cart cart, Quote quote) {}
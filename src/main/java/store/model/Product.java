@@ -3,54 +3,93 @@ package store.model;
 import store.exception.ErrorCode;
 import store.validator.Validator;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class Product {
     private final String name;
-    private final int price;
-    private int promotionStock;
-    private int normalStock;
+    private final Money price;
+    private volatile StockCounter promotionStock;
+    private volatile StockCounter normalStock;
     private final String promotion;
+    private final CopyOnWriteArrayList<StockChangeListener> stockChangeListeners = new CopyOnWriteArrayList<>();
 
     public Product(String name, int price, int stock, String promotion) {
         Validator.validateNotBlank(name, ErrorCode.NON_EXISTENT_PRODUCT);
         Validator.validatePositiveNumber(price);
 
         this.name = name;
-        this.price = price;
+        this.price = Money.of(price);
         initializeStock(stock, promotion);
         this.promotion = promotion;
     }
 
+    private Product(String name, Money price, int promotionStock, int normalStock, String promotion) {
+        this.name = name;
+        this.price = price;
+        this.promotionStock = new PlainStock(promotionStock);
+        this.normalStock = new PlainStock(normalStock);
+        this.promotion = promotion;
+    }
+
     private void initializeStock(int stock, String promotion) {
         this.promotionStock = Optional.ofNullable(promotion)
                 .filter(p -> !p.equals("null"))
-                .map(p -> stock)
-                .orElse(0);
+                .map(p -> new PlainStock(stock))
+                .orElseGet(() -> new PlainStock(0));
 
         this.normalStock = Optional.ofNullable(promotion)
                 .filter(p -> !p.equals("null"))
-                .map(p -> 0)
-                .orElse(stock);
+                .map(p -> new PlainStock(0))
+                .orElseGet(() -> new PlainStock(stock));
     }
 
     public String getName() {
         return name;
     }
 
-    public int getPrice() {
+    public Money getPrice() {
         return price;
     }
 
     public int getTotalStock() {
-        return promotionStock + normalStock;
+        return promotionStock.get() + normalStock.get();
     }
 
     public int getPromotionalStock() {
-        return promotionStock;
+        return promotionStock.get();
     }
 
     public int getNormalStock() {
-        return normalStock;
+        return normalStock.get();
+    }
+
+    public boolean isSharded() {
+        return promotionStock instanceof ShardedStock;
+    }
+
+    public synchronized void enableSharding(int shardCount) {
+        if (isSharded()) {
+            return;
+        }
+        promotionStock = new ShardedStock(shardCount, promotionStock.get());
+        normalStock = new ShardedStock(shardCount, normalStock.get());
+    }
+
+    public Product withRestocked(int quantity) {
+        return copyWith(price, quantity);
+    }
+
+    public Product withPrice(Money newPrice) {
+        return copyWith(newPrice, 0);
+    }
+
+    private Product copyWith(Money newPrice, int restocked) {
+        int promotional = isSharded() ? promotionStock.takeAll() : promotionStock.get();
+        int normal = isSharded() ? normalStock.takeAll() : normalStock.get();
+        if (hasPromotion()) {
+            return new Product(name, newPrice, promotional + restocked, normal, promotion);
+        }
+        return new Product(name, newPrice, promotional, normal + restocked, promotion);
     }
 
     public String getPromotion() {
@@ -63,17 +102,80 @@ public class Product {
                 .isPresent();
     }
 
+    public void addStockChangeListener(StockChangeListener listener) {
+        Optional.ofNullable(listener)
+                .ifPresent(stockChangeListeners::addIfAbsent);
+    }
+
     public void transferPromotionStockToNormal(int quantity) {
-        promotionStock -= quantity;
-        normalStock += quantity;
+        takeOrThrow(promotionStock, quantity);
+        normalStock.add(quantity);
+        notifyStockChanged();
+    }
+
+    public void restock(int quantity) {
+        if (hasPromotion()) {
+            promotionStock.add(quantity);
+        } else {
+            normalStock.add(quantity);
+        }
+        notifyStockChanged();
     }
 
     public void decreaseNormalStock(int quantity) {
-        normalStock -= quantity;
+        takeOrThrow(normalStock, quantity);
+        notifyStockChanged();
     }
 
     public void decreasePromotionStock(int quantity) {
-        promotionStock -= quantity;
+        takeOrThrow(promotionStock, quantity);
+        notifyStockChanged();
+    }
+
+    public boolean tryDecreaseNormalStock(int quantity) {
+        return tryTake(normalStock, quantity);
+    }
+
+    public boolean tryDecreasePromotionStock(int quantity) {
+        return tryTake(promotionStock, quantity);
+    }
+
+    public boolean tryReservePromotionStock(int quantity) {
+        return promotionStock.tryTake(quantity);
+    }
+
+    public boolean tryReserveNormalStock(int quantity) {
+        return normalStock.tryTake(quantity);
+    }
+
+    public void releasePromotionStock(int quantity) {
+        promotionStock.add(quantity);
+    }
+
+    public void releaseNormalStock(int quantity) {
+        normalStock.add(quantity);
+    }
+
+    public void publishStockChange() {
+        notifyStockChanged();
+    }
+
+    private boolean tryTake(StockCounter counter, int quantity) {
+        if (!counter.tryTake(quantity)) {
+            return false;
+        }
+        notifyStockChanged();
+        return true;
+    }
+
+    private void takeOrThrow(StockCounter counter, int quantity) {
+        if (!counter.tryTake(quantity)) {
+            throw new IllegalArgumentException(ErrorCode.INVENTORY_QUANTITY_EXCEEDED.getMessage());
+        }
+    }
+
+    private void notifyStockChanged() {
+        stockChangeListeners.forEach(listener -> listener.onStockChanged(this));
     }
 
     public String getStockText() {
@@ -88,6 +190,6 @@ public class Product {
     }
 
     public boolean hasAvailableNormalStock(int quantity) {
-        return normalStock >= quantity;
+        return normalStock.get() >= quantity;
     }
 }
\ No newline at end of file
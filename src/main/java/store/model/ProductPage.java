@@ -0,0 +1,6 @@
+package store.model;
+
+import java.util.List;
+
+public record ProductPage(List<StockSnapshot> products, int page, boolean hasNext) {
+}
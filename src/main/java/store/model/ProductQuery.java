@@ -0,0 +1,117 @@
+package store.model;
+
+import java.util.Arrays;
+import java.util.Optional;
+import store.exception.ErrorCode;
+
+public class ProductQuery {
+    private static final int FIRST_PAGE = 1;
+    private static final int UNPAGED = Integer.MAX_VALUE;
+    private static final ProductQuery ALL = new ProductQuery(FIRST_PAGE, UNPAGED, null, null, false);
+
+    private final int page;
+    private final int pageSize;
+    private final String namePrefix;
+    private final String promotion;
+    private final boolean inStockOnly;
+
+    private ProductQuery(int page, int pageSize, String namePrefix, String promotion, boolean inStockOnly) {
+        this.page = page;
+        this.pageSize = pageSize;
+        this.namePrefix = namePrefix;
+        this.promotion = promotion;
+        this.inStockOnly = inStockOnly;
+    }
+
+    public static ProductQuery all() {
+        return ALL;
+    }
+
+    public static ProductQuery parse(String query) {
+        return Arrays.stream(query.split(","))
+                .map(String::trim)
+                .filter(option -> !option.isEmpty())
+                .reduce(ALL, ProductQuery::withOption, (left, right) -> right);
+    }
+
+    private ProductQuery withOption(String option) {
+        String[] parts = option.split("=", 2);
+        String value = parts.length == 2 ? parts[1].trim() : "";
+        return switch (parts[0].trim()) {
+            case "page" -> withPage(parsePositive(value));
+            case "size" -> withPageSize(parsePositive(value));
+            case "prefix" -> withNamePrefix(value);
+            case "promotion" -> withPromotion(value);
+            case "instock" -> inStockOnly();
+            default -> throw new IllegalArgumentException(ErrorCode.INVALID_PRODUCT_QUERY.getMessage());
+        };
+    }
+
+    private static int parsePositive(String value) {
+        try {
+            return Optional.of(Integer.parseInt(value))
+                    .filter(number -> number > 0)
+                    .orElseThrow(() -> new IllegalArgumentException(ErrorCode.INVALID_PRODUCT_QUERY.getMessage()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(ErrorCode.INVALID_PRODUCT_QUERY.getMessage());
+        }
+    }
+
+    public ProductQuery withPage(int page) {
+        return new ProductQuery(page, pageSize, namePrefix, promotion, inStockOnly);
+    }
+
+    public ProductQuery withPageSize(int pageSize) {
+        return new ProductQuery(page, pageSize, namePrefix, promotion, inStockOnly);
+    }
+
+    public ProductQuery withNamePrefix(String namePrefix) {
+        return new ProductQuery(page, pageSize, namePrefix, promotion, inStockOnly);
+    }
+
+    public ProductQuery withPromotion(String promotion) {
+        return new ProductQuery(page, pageSize, namePrefix, promotion, inStockOnly);
+    }
+
+    public ProductQuery inStockOnly() {
+        return new ProductQuery(page, pageSize, namePrefix, promotion, true);
+    }
+
+    public ProductQuery nextPage() {
+        return withPage(page + 1);
+    }
+
+    public ProductQuery previousPage() {
+        return withPage(Math.max(FIRST_PAGE, page - 1));
+    }
+
+    public Optional<String> getNamePrefix() {
+        return Optional.ofNullable(namePrefix);
+    }
+
+    public boolean filtersByAttribute() {
+        return promotion != null || inStockOnly;
+    }
+
+    public boolean matches(StockSnapshot product) {
+        return (namePrefix == null || product.name().startsWith(namePrefix))
+                && (promotion == null || promotion.equals(product.promotion()))
+                && (!inStockOnly || product.getTotalStock() > 0);
+    }
+
+    public boolean isPaged() {
+        return pageSize != UNPAGED;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public long getOffset() {
+        return (long) (page - FIRST_PAGE) * pageSize;
+    }
+}
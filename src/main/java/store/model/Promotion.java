@@ -1,46 +1,66 @@
 package store.model;
 
-import camp.nextstep.edu.missionutils.DateTimes;
 import java.util.Optional;
 import store.exception.ErrorCode;
 import store.validator.Validator;
 import java.time.LocalDateTime;
 
 public class Promotion {
-    private final PromotionType type;
+    private final String name;
+    private final int buyQuantity;
+    private final int freeQuantity;
     private final LocalDateTime startDate;
     private final LocalDateTime endDate;
 
     public Promotion(String name, int buyQuantity, int freeQuantity,
                      LocalDateTime startDate, LocalDateTime endDate) {
+        Validator.validateNotBlank(name, ErrorCode.INVALID_PROMOTION_NAME);
+        Validator.validatePositiveNumber(buyQuantity);
+        Validator.validatePositiveNumber(freeQuantity);
         validatePromotionDates(startDate, endDate);
-        this.type = PromotionType.fromName(name);
+        this.name = name;
+        this.buyQuantity = buyQuantity;
+        this.freeQuantity = freeQuantity;
         this.startDate = startDate;
         this.endDate = endDate;
     }
 
-    public PromotionType getType() {
-        return type;
+    public Optional<PromotionType> getType() {
+        return PromotionType.find(name);
+    }
+
+    public boolean shouldAskForPromotion() {
+        return getType()
+                .filter(PromotionType::shouldAskForPromotion)
+                .isPresent();
     }
 
     public String getName() {
-        return type.getName();
+        return name;
     }
 
     public int getBuyQuantity() {
-        return type.getBuyQuantity();
+        return buyQuantity;
     }
 
     public int getFreeQuantity() {
-        return type.getFreeQuantity();
+        return freeQuantity;
     }
 
-    public boolean isValid() {
-        return Optional.of(DateTimes.now())
+    public boolean isValid(LocalDateTime now) {
+        return Optional.ofNullable(now)
                 .map(this::isDateInPromotionPeriod)
                 .orElse(false);
     }
 
+    public boolean isExpired(LocalDateTime now) {
+        return now.isAfter(endDate);
+    }
+
+    public LocalDateTime getEndDate() {
+        return endDate;
+    }
+
     private boolean isDateInPromotionPeriod(LocalDateTime currentDate) {
         return !currentDate.isBefore(startDate) && !currentDate.isAfter(endDate);
     }
@@ -0,0 +1,40 @@
+package store.model;
+
+public record PromotionAllocation(
+        String promotionName,
+        int promotionSets,
+        int paidPromotionQuantity,
+        int freeQuantity,
+        int promotionRemainder,
+        int normalQuantity,
+        int shortage
+) {
+    public static PromotionAllocation withoutPromotion(int requestedQuantity, int normalStock) {
+        int normalQuantity = Math.min(requestedQuantity, Math.max(normalStock, 0));
+        return new PromotionAllocation(null, 0, 0, 0, 0, normalQuantity, requestedQuantity - normalQuantity);
+    }
+
+    public boolean hasPromotion() {
+        return promotionName != null;
+    }
+
+    public boolean hasShortage() {
+        return shortage > 0;
+    }
+
+    public int getPromotionStockUsed() {
+        return paidPromotionQuantity + freeQuantity + promotionRemainder;
+    }
+
+    public int getPromotionAppliedQuantity() {
+        return paidPromotionQuantity + freeQuantity;
+    }
+
+    public int getNonPromotionQuantity() {
+        return promotionRemainder + normalQuantity;
+    }
+
+    public int getTotalQuantity() {
+        return getPromotionStockUsed() + normalQuantity;
+    }
+}
@@ -0,0 +1,7 @@
+package store.model;
+
+public record PromotionCandidate(Promotion promotion, int promotionStock) {
+    public int getSetSize() {
+        return promotion.getBuyQuantity() + promotion.getFreeQuantity();
+    }
+}
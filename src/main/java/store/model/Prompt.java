@@ -0,0 +1,28 @@
+package store.model;
+
+import java.util.Arrays;
+import store.exception.ErrorCode;
+
+public enum Prompt {
+    ADDITIONAL_ITEM("additional"),
+    MEMBERSHIP("membership"),
+    CONTINUE("continue"),
+    SUGGESTION("suggestion");
+
+    private final String key;
+
+    Prompt(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public static Prompt fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(prompt -> prompt.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.INVALID_PRESET_ANSWER.getMessage()));
+    }
+}
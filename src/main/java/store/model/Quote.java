@@ -0,0 +1,7 @@
+package store.model;
+
+public record Quote(Money totalPrice, Money promotionDiscount, Money membershipDiscount) {
+    public Money getPayment() {
+        return totalPrice.minus(promotionDiscount).minus(membershipDiscount);
+    }
+}
@@ -0,0 +1,7 @@
+package store.model;
+
+public record RestockEvent(String productName, int remainingStock) {
+    public boolean isSoldOut() {
+        return remainingStock <= 0;
+    }
+}
@@ -0,0 +1,166 @@
+package store.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class ShardedStock implements StockCounter {
+    private static final int CELL_STRIDE = 16;
+    private static final int MAX_TAKE_ATTEMPTS = 4;
+    private static final long LOW_BITS = 0xFFFF_FFFFL;
+    private static final long HIGH_STEP = 1L << 32;
+
+    private final int shardCount;
+    private final AtomicLongArray cells;
+    private final AtomicLong spanningWrites = new AtomicLong();
+
+    ShardedStock(int shardCount, int stock) {
+        this.shardCount = shardCount;
+        this.cells = new AtomicLongArray(shardCount * CELL_STRIDE);
+        for (int shard = 0; shard < shardCount; shard++) {
+            cells.set(cellOf(shard), stock / shardCount + (shard < stock % shardCount ? 1 : 0));
+        }
+    }
+
+    @Override
+    public int get() {
+        while (true) {
+            long spans = spanningWrites.get();
+            if ((spans & LOW_BITS) == 0) {
+                long total = 0;
+                long versions = 0;
+                for (int shard = 0; shard < shardCount; shard++) {
+                    long cell = cells.get(cellOf(shard));
+                    total += stockOf(cell);
+                    versions += cell >>> 32;
+                }
+                if (versions == sumVersions() && spanningWrites.get() == spans) {
+                    return (int) total;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private long sumVersions() {
+        long versions = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            versions += cells.get(cellOf(shard)) >>> 32;
+        }
+        return versions;
+    }
+
+    int getShard(int shard) {
+        return stockOf(cells.get(cellOf(shard)));
+    }
+
+    @Override
+    public void add(int quantity) {
+        addTo(homeShard(), quantity);
+    }
+
+    @Override
+    public boolean tryTake(int quantity) {
+        if (takeFromHome(quantity)) {
+            return true;
+        }
+        for (int attempt = 0; attempt < MAX_TAKE_ATTEMPTS && get() >= quantity; attempt++) {
+            if (takeAcrossShards(quantity)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean takeFromHome(int quantity) {
+        int cell = cellOf(homeShard());
+        while (true) {
+            long current = cells.get(cell);
+            if (stockOf(current) < quantity) {
+                return false;
+            }
+            if (cells.compareAndSet(cell, current, withStock(current, stockOf(current) - quantity))) {
+                return true;
+            }
+        }
+    }
+
+    private boolean takeAcrossShards(int quantity) {
+        spanningWrites.incrementAndGet();
+        try {
+            int home = homeShard();
+            int[] takenByShard = new int[shardCount];
+            int taken = 0;
+            for (int offset = 0; taken < quantity && offset < shardCount; offset++) {
+                int shard = (home + offset) % shardCount;
+                takenByShard[shard] = takeUpTo(shard, quantity - taken);
+                taken += takenByShard[shard];
+            }
+            if (taken == quantity) {
+                return true;
+            }
+            for (int shard = 0; shard < shardCount; shard++) {
+                if (takenByShard[shard] > 0) {
+                    addTo(shard, takenByShard[shard]);
+                }
+            }
+            return false;
+        } finally {
+            spanningWrites.addAndGet(HIGH_STEP - 1);
+        }
+    }
+
+    @Override
+    public int takeAll() {
+        spanningWrites.incrementAndGet();
+        try {
+            int taken = 0;
+            for (int shard = 0; shard < shardCount; shard++) {
+                taken += takeUpTo(shard, Integer.MAX_VALUE);
+            }
+            return taken;
+        } finally {
+            spanningWrites.addAndGet(HIGH_STEP - 1);
+        }
+    }
+
+    private int takeUpTo(int shard, int wanted) {
+        int cell = cellOf(shard);
+        while (true) {
+            long current = cells.get(cell);
+            int available = stockOf(current);
+            if (available <= 0) {
+                return 0;
+            }
+            int taken = Math.min(available, wanted);
+            if (cells.compareAndSet(cell, current, withStock(current, available - taken))) {
+                return taken;
+            }
+        }
+    }
+
+    private void addTo(int shard, int quantity) {
+        int cell = cellOf(shard);
+        while (true) {
+            long current = cells.get(cell);
+            if (cells.compareAndSet(cell, current, withStock(current, stockOf(current) + quantity))) {
+                return;
+            }
+        }
+    }
+
+    private int homeShard() {
+        return Math.floorMod(Thread.currentThread().hashCode(), shardCount);
+    }
+
+    private static int stockOf(long cell) {
+        return (int) cell;
+    }
+
+    private static long withStock(long cell, int stock) {
+        return ((cell & ~LOW_BITS) + HIGH_STEP) | (stock & LOW_BITS);
+    }
+
+    private static int cellOf(int shard) {
+        return shard * CELL_STRIDE;
+    }
+}
@@ -0,0 +1,6 @@
+package store.model;
+
+@FunctionalInterface
+public interface StockChangeListener {
+    void onStockChanged(Product product);
+}
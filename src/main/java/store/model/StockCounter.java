@@ -0,0 +1,11 @@
+package store.model;
+
+interface StockCounter {
+    int get();
+
+    void add(int quantity);
+
+    boolean tryTake(int quantity);
+
+    int takeAll();
+}
@@ -0,0 +1,25 @@
+package store.model;
+
+import java.util.Optional;
+
+public record StockSnapshot(String name, Money price, String promotion, int promotionStock, int normalStock) {
+    public static StockSnapshot from(Product product) {
+        return new StockSnapshot(
+                product.getName(),
+                product.getPrice(),
+                product.getPromotion(),
+                product.getPromotionalStock(),
+                product.getNormalStock()
+        );
+    }
+
+    public int getTotalStock() {
+        return promotionStock + normalStock;
+    }
+
+    public boolean hasPromotion() {
+        return Optional.ofNullable(promotion)
+                .filter(p -> !p.equals("null"))
+                .isPresent();
+    }
+}
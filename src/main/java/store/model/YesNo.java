@@ -1,38 +1,31 @@
 package store.model;
 
 import store.exception.ErrorCode;
-import java.util.Arrays;
-import java.util.Optional;
 
 public enum YesNo {
-    YES("Y"),
-    NO("N");
-
-    private final String value;
-
-    YesNo(String value) {
-        this.value = value;
-    }
+    YES,
+    NO;
 
     public static YesNo from(String input) {
-        validateInput(input);
-        return findAnswer(input.toUpperCase());
+        return decode(input);
     }
 
-    private static void validateInput(String input) {
-        Optional.ofNullable(input)
-                .filter(str -> !str.trim().isEmpty())
-                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.MEMBERSHIP_YES_OR_NO_CHECK.getMessage()));
+    public static YesNo decode(CharSequence input) {
+        if (input == null || input.length() != 1) {
+            throw invalidAnswer();
+        }
+        return switch (input.charAt(0)) {
+            case 'Y', 'y' -> YES;
+            case 'N', 'n' -> NO;
+            default -> throw invalidAnswer();
+        };
     }
 
-    private static YesNo findAnswer(String input) {
-        return Arrays.stream(values())
-                .filter(answer -> answer.value.equals(input))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.MEMBERSHIP_YES_OR_NO_CHECK.getMessage()));
+    private static IllegalArgumentException invalidAnswer() {
+        return new IllegalArgumentException(ErrorCode.MEMBERSHIP_YES_OR_NO_CHECK.getMessage());
     }
 
     public boolean isYes() {
         return this == YES;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,66 @@
+package store.service;
+
+import java.util.Arrays;
+
+final class CartFingerprint {
+    private static final int FIELDS_PER_LINE = 3;
+
+    private final long[] lines;
+    private final boolean useMembership;
+    private final long catalogVersion;
+    private final int hash;
+
+    private CartFingerprint(long[] lines, boolean useMembership, long catalogVersion) {
+        this.lines = lines;
+        this.useMembership = useMembership;
+        this.catalogVersion = catalogVersion;
+        this.hash = 31 * (31 * Arrays.hashCode(lines) + Boolean.hashCode(useMembership))
+                + Long.hashCode(catalogVersion);
+    }
+
+    static Builder builder(int lineCount) {
+        return new Builder(lineCount);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof CartFingerprint fingerprint)) {
+            return false;
+        }
+        return useMembership == fingerprint.useMembership
+                && catalogVersion == fingerprint.catalogVersion
+                && Arrays.equals(lines, fingerprint.lines);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    static final class Builder {
+        private final long[][] lines;
+        private int size;
+
+        private Builder(int lineCount) {
+            this.lines = new long[lineCount][];
+        }
+
+        Builder line(int productId, int quantity, int promotionSets) {
+            lines[size++] = new long[]{productId, quantity, promotionSets};
+            return this;
+        }
+
+        CartFingerprint build(boolean useMembership, long catalogVersion) {
+            long[][] sorted = Arrays.copyOf(lines, size);
+            Arrays.sort(sorted, (left, right) -> Arrays.compare(left, right));
+            long[] flattened = new long[size * FIELDS_PER_LINE];
+            for (int line = 0; line < size; line++) {
+                System.arraycopy(sorted[line], 0, flattened, line * FIELDS_PER_LINE, FIELDS_PER_LINE);
+            }
+            return new CartFingerprint(flattened, useMembership, catalogVersion);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package store.service;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import store.exception.ErrorCode;
+import store.model.Catalog;
+import store.model.Product;
+import store.model.Promotion;
+import store.service.StockLockManager.StockLocks;
+import store.util.FileReader;
+
+public class CatalogReloader implements AutoCloseable {
+    private static final Duration WATCH_RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final ProductService productService;
+    private final FileReader fileReader;
+    private final ExecutorService executor;
+    private volatile Thread watchThread;
+    private volatile IllegalStateException watchFailure;
+
+    public CatalogReloader(ProductService productService, FileReader fileReader) {
+        this.productService = productService;
+        this.fileReader = fileReader;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> createDaemon(runnable, "catalog-reloader"));
+    }
+
+    public CompletableFuture<Catalog> reload() {
+        return CompletableFuture.supplyAsync(() -> applyCatalogFiles(fileReader.getProducts(),
+                fileReader.getPromotions()), executor);
+    }
+
+    public CompletableFuture<Catalog> restock(Path deltaFile) {
+        return CompletableFuture.supplyAsync(() -> applyDeliveries(fileReader.readProducts(deltaFile)), executor);
+    }
+
+    private Catalog applyCatalogFiles(List<Product> fileRows, List<Promotion> promotions) {
+        List<String> productNames = Stream.concat(productService.getProducts().stream(), fileRows.stream())
+                .map(Product::getName)
+                .distinct()
+                .toList();
+        StockLocks locks = productService.getStockLockManager().lockAll(productNames);
+        try {
+            Catalog current = productService.getCatalog();
+            List<Product> products = fileRows.stream()
+                    .map(fileRow -> findSameRow(current.getProducts(), fileRow)
+                            .map(row -> row.withPrice(fileRow.getPrice()))
+                            .orElse(fileRow))
+                    .toList();
+            return publish(current.replace(products, promotions));
+        } finally {
+            locks.close();
+        }
+    }
+
+    private Catalog applyDeliveries(List<Product> deliveries) {
+        List<String> productNames = deliveries.stream()
+                .map(Product::getName)
+                .toList();
+        StockLocks locks = productService.getStockLockManager().lockAll(productNames);
+        try {
+            Catalog current = productService.getCatalog();
+            List<Product> products = new ArrayList<>(current.getProducts());
+            deliveries.forEach(delivery -> findSameRow(products, delivery)
+                    .ifPresentOrElse(row -> replaceRow(products, row, row.withRestocked(delivery.getTotalStock())),
+                            () -> products.add(delivery)));
+            return publish(current.withProducts(products));
+        } finally {
+            locks.close();
+        }
+    }
+
+    private static void replaceRow(List<Product> products, Product row, Product restocked) {
+        products.set(products.indexOf(row), restocked);
+    }
+
+    private Optional<Product> findSameRow(List<Product> products, Product delivery) {
+        return products.stream()
+                .filter(product -> product.getName().equals(delivery.getName()))
+                .filter(product -> product.hasPromotion() == delivery.hasPromotion())
+                .filter(product -> !product.hasPromotion() || product.getPromotion().equals(delivery.getPromotion()))
+                .findFirst();
+    }
+
+    private Catalog publish(Catalog catalog) {
+        productService.replaceCatalog(catalog);
+        return catalog;
+    }
+
+    public synchronized void startWatching() {
+        if (watchThread != null) {
+            return;
+        }
+        watchThread = createDaemon(this::watchCatalogFiles, "catalog-reloader-watch");
+        watchThread.start();
+    }
+
+    private void watchCatalogFiles() {
+        boolean recovering = false;
+        while (!Thread.currentThread().isInterrupted()) {
+            try (WatchService watchService = FileSystems.getDefault().newWatchService()) {
+                registerDirectories(watchService);
+                watchFailure = null;
+                if (recovering) {
+                    reload();
+                }
+                while (!Thread.currentThread().isInterrupted()) {
+                    awaitCatalogChange(watchService);
+                }
+            } catch (IOException e) {
+                watchFailure = new IllegalStateException(ErrorCode.FAILED_TO_WATCH_CATALOG.getMessage(), e);
+                recovering = true;
+                pauseBeforeRetry();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void pauseBeforeRetry() {
+        try {
+            Thread.sleep(WATCH_RETRY_DELAY.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public Optional<IllegalStateException> getWatchFailure() {
+        return Optional.ofNullable(watchFailure);
+    }
+
+    private void registerDirectories(WatchService watchService) throws IOException {
+        List<Path> directories = catalogFiles()
+                .map(path -> path.toAbsolutePath().getParent())
+                .distinct()
+                .toList();
+        for (Path directory : directories) {
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+    }
+
+    private void awaitCatalogChange(WatchService watchService) throws InterruptedException {
+        WatchKey key = watchService.take();
+        boolean catalogChanged = key.pollEvents().stream()
+                .map(event -> (Path) event.context())
+                .anyMatch(this::isCatalogFile);
+        key.reset();
+        if (catalogChanged) {
+            reload();
+        }
+    }
+
+    private boolean isCatalogFile(Path changed) {
+        return catalogFiles()
+                .map(Path::getFileName)
+                .anyMatch(changed::equals);
+    }
+
+    private Stream<Path> catalogFiles() {
+        return Stream.of(fileReader.getProductsPath(), fileReader.getPromotionsPath());
+    }
+
+    private static Thread createDaemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @Override
+    public void close() {
+        Optional.ofNullable(watchThread)
+                .ifPresent(Thread::interrupt);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,30 @@
+package store.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import store.model.Catalog;
+
+public class CheckoutContext {
+    private final Catalog catalog;
+    private final LocalDateTime now;
+    private final Map<String, PromotionState> states = new HashMap<>();
+
+    CheckoutContext(Catalog catalog, LocalDateTime now) {
+        this.catalog = catalog;
+        this.now = now;
+    }
+
+    public Catalog getCatalog() {
+        return catalog;
+    }
+
+    public LocalDateTime getNow() {
+        return now;
+    }
+
+    PromotionState resolve(String productName, Function<String, PromotionState> resolver) {
+        return states.computeIfAbsent(productName, resolver);
+    }
+}
@@ -0,0 +1,92 @@
+package store.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import store.model.Cart;
+import store.model.Order;
+import store.model.PresetAnswers;
+import store.model.ProductQuery;
+
+public class CheckoutSession {
+    private final String id;
+    private final Cart cart;
+    private final List<Order> pendingOrders = new ArrayList<>();
+    private CheckoutContext checkoutContext;
+    private PresetAnswers presetAnswers = PresetAnswers.none();
+    private ProductQuery productQuery = ProductQuery.all();
+    private volatile long lastAccessed;
+    private volatile boolean evicted;
+
+    CheckoutSession(String id, long createdAt) {
+        this.id = id;
+        this.lastAccessed = createdAt;
+        this.cart = new Cart();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Cart getCart() {
+        return cart;
+    }
+
+    public PresetAnswers getPresetAnswers() {
+        return presetAnswers;
+    }
+
+    void setPresetAnswers(PresetAnswers presetAnswers) {
+        this.presetAnswers = presetAnswers;
+    }
+
+    public ProductQuery getProductQuery() {
+        return productQuery;
+    }
+
+    void setProductQuery(ProductQuery productQuery) {
+        this.productQuery = productQuery;
+    }
+
+    void keepSettingsOf(CheckoutSession previous) {
+        this.presetAnswers = previous.presetAnswers;
+        this.productQuery = previous.productQuery;
+    }
+
+    List<Order> getPendingOrders() {
+        return pendingOrders;
+    }
+
+    CheckoutContext getCheckoutContext(Supplier<CheckoutContext> opener) {
+        if (checkoutContext == null) {
+            checkoutContext = opener.get();
+        }
+        return checkoutContext;
+    }
+
+    void discardCheckoutContext() {
+        checkoutContext = null;
+    }
+
+    long getLastAccessed() {
+        return lastAccessed;
+    }
+
+    void touch(long now) {
+        lastAccessed = now;
+    }
+
+    void evict() {
+        evicted = true;
+    }
+
+    boolean isEvicted() {
+        return evicted;
+    }
+
+    void reset() {
+        cart.clear();
+        pendingOrders.clear();
+        discardCheckoutContext();
+    }
+}
@@ -0,0 +1,181 @@
+package store.service;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import store.exception.ErrorCode;
+import store.model.InventorySnapshot;
+import store.model.Money;
+import store.model.StockSnapshot;
+
+public class InventoryExporter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int BINARY_MAGIC = 0x53544B31;
+    private static final String CSV_HEADER = "name,price,quantity,promotion\n";
+    private static final String NO_PROMOTION = "null";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    public enum Format {
+        CSV,
+        BINARY;
+
+        public static Format from(String name) {
+            return Arrays.stream(values())
+                    .filter(format -> format.name().equals(name.trim().toUpperCase(Locale.ROOT)))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException(ErrorCode.INVALID_EXPORT_FORMAT.getMessage()));
+        }
+    }
+
+    private final ProductService productService;
+
+    public InventoryExporter(ProductService productService) {
+        this.productService = productService;
+    }
+
+    public long export(Path target, Format format) {
+        InventorySnapshot snapshot = productService.getInventorySnapshot();
+        Path temporary = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        try {
+            write(temporary, snapshot, format);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            temporary.toFile().delete();
+            throw new IllegalStateException(ErrorCode.FAILED_TO_EXPORT_INVENTORY.getMessage());
+        }
+        return snapshot.getVersion();
+    }
+
+    private static void write(Path path, InventorySnapshot snapshot, Format format) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ChannelWriter writer = new ChannelWriter(channel);
+            if (format == Format.CSV) {
+                writeCsv(writer, snapshot);
+            } else {
+                writeBinary(writer, snapshot);
+            }
+            writer.flush();
+            channel.force(false);
+        }
+    }
+
+    private static void writeCsv(ChannelWriter writer, InventorySnapshot snapshot) throws IOException {
+        writer.put(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+        for (int index = 0; index < snapshot.size(); index++) {
+            StockSnapshot row = snapshot.get(index);
+            String line = String.join(",", row.name(), String.valueOf(row.price().getAmount()),
+                    String.valueOf(quantityOf(row)), promotionOf(row)) + "\n";
+            writer.put(line.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void writeBinary(ChannelWriter writer, InventorySnapshot snapshot) throws IOException {
+        writer.ensure(Integer.BYTES * 2 + Long.BYTES);
+        writer.buffer.putInt(BINARY_MAGIC).putLong(snapshot.getVersion()).putInt(snapshot.size());
+        for (int index = 0; index < snapshot.size(); index++) {
+            StockSnapshot row = snapshot.get(index);
+            byte[] name = row.name().getBytes(StandardCharsets.UTF_8);
+            byte[] promotion = row.hasPromotion() ? row.promotion().getBytes(StandardCharsets.UTF_8) : new byte[0];
+            writer.ensure(Integer.BYTES * 4 + Long.BYTES);
+            writer.buffer.putLong(row.price().getAmount())
+                    .putInt(row.promotionStock())
+                    .putInt(row.normalStock())
+                    .putInt(name.length)
+                    .putInt(promotion.length);
+            writer.put(name);
+            writer.put(promotion);
+        }
+    }
+
+    private static int quantityOf(StockSnapshot row) {
+        if (row.hasPromotion()) {
+            return row.promotionStock();
+        }
+        return row.normalStock();
+    }
+
+    private static String promotionOf(StockSnapshot row) {
+        if (row.hasPromotion()) {
+            return row.promotion();
+        }
+        return NO_PROMOTION;
+    }
+
+    public static InventorySnapshot readBinary(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != BINARY_MAGIC) {
+                throw new IllegalStateException(ErrorCode.FAILED_TO_READ_INVENTORY.getMessage());
+            }
+            long version = buffer.getLong();
+            int size = buffer.getInt();
+            List<StockSnapshot> rows = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                rows.add(readRow(buffer));
+            }
+            return InventorySnapshot.of(version, rows);
+        } catch (IOException | BufferUnderflowException e) {
+            throw new IllegalStateException(ErrorCode.FAILED_TO_READ_INVENTORY.getMessage());
+        }
+    }
+
+    private static StockSnapshot readRow(ByteBuffer buffer) {
+        long price = buffer.getLong();
+        int promotionStock = buffer.getInt();
+        int normalStock = buffer.getInt();
+        byte[] name = new byte[buffer.getInt()];
+        byte[] promotion = new byte[buffer.getInt()];
+        buffer.get(name).get(promotion);
+        return new StockSnapshot(new String(name, StandardCharsets.UTF_8), Money.of(price),
+                promotion.length == 0 ? NO_PROMOTION : new String(promotion, StandardCharsets.UTF_8),
+                promotionStock, normalStock);
+    }
+
+    private static class ChannelWriter {
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        ChannelWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void put(byte[] bytes) throws IOException {
+            if (bytes.length > buffer.capacity()) {
+                flush();
+                drain(ByteBuffer.wrap(bytes));
+                return;
+            }
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            drain(buffer);
+            buffer.clear();
+        }
+
+        private void drain(ByteBuffer source) throws IOException {
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+    }
+}
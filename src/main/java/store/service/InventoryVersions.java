@@ -0,0 +1,83 @@
+package store.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import store.model.InventorySnapshot;
+import store.model.Product;
+import store.model.StockChangeListener;
+import store.model.StockSnapshot;
+
+public class InventoryVersions implements StockChangeListener {
+    private final AtomicReference<Tracked> tracked;
+    private final ThreadLocal<Set<Product>> pending = new ThreadLocal<>();
+
+    public InventoryVersions(List<Product> products) {
+        this.tracked = new AtomicReference<>(new Tracked(Map.of(), InventorySnapshot.of(0, List.of())));
+        track(products);
+    }
+
+    public InventorySnapshot current() {
+        return tracked.get().snapshot();
+    }
+
+    public void track(List<Product> products) {
+        Map<Product, Integer> positions = new IdentityHashMap<>();
+        IntStream.range(0, products.size())
+                .forEach(index -> positions.put(products.get(index), index));
+        products.forEach(product -> product.addStockChangeListener(this));
+        tracked.updateAndGet(previous -> new Tracked(positions,
+                InventorySnapshot.of(previous.snapshot().getVersion() + 1, products.stream()
+                        .map(StockSnapshot::from)
+                        .toList())));
+    }
+
+    public void commit(Runnable change) {
+        Set<Product> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+        pending.set(changed);
+        try {
+            change.run();
+        } finally {
+            pending.remove();
+            publish(changed);
+        }
+    }
+
+    @Override
+    public void onStockChanged(Product product) {
+        Optional.ofNullable(pending.get())
+                .ifPresentOrElse(changed -> changed.add(product), () -> publish(List.of(product)));
+    }
+
+    private void publish(Collection<Product> products) {
+        while (true) {
+            Tracked previous = tracked.get();
+            Map<Integer, StockSnapshot> changes = changesSince(previous, products);
+            if (changes.isEmpty() || tracked.compareAndSet(previous, previous.with(changes))) {
+                return;
+            }
+        }
+    }
+
+    private static Map<Integer, StockSnapshot> changesSince(Tracked previous, Collection<Product> products) {
+        Map<Integer, StockSnapshot> changes = new HashMap<>();
+        products.forEach(product -> Optional.ofNullable(previous.positions().get(product))
+                .map(index -> Map.entry(index, StockSnapshot.from(product)))
+                .filter(entry -> !entry.getValue().equals(previous.snapshot().get(entry.getKey())))
+                .ifPresent(entry -> changes.put(entry.getKey(), entry.getValue())));
+        return changes;
+    }
+
+    private record Tracked(Map<Product, Integer> positions, InventorySnapshot snapshot) {
+        Tracked with(Map<Integer, StockSnapshot> changes) {
+            return new Tracked(positions, snapshot.with(changes));
+        }
+    }
+}
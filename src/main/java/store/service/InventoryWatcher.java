@@ -0,0 +1,121 @@
+package store.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import store.model.Product;
+import store.model.RestockEvent;
+import store.model.StockChangeListener;
+
+public class InventoryWatcher implements StockChangeListener {
+    private final int restockThreshold;
+    private final List<Consumer<RestockEvent>> subscribers = new CopyOnWriteArrayList<>();
+    private volatile Watched watched = new Watched(List.of());
+
+    public InventoryWatcher(int restockThreshold) {
+        this.restockThreshold = restockThreshold;
+    }
+
+    public synchronized void watch(List<Product> products) {
+        Watched newWatched = new Watched(products);
+        watched = newWatched;
+        products.forEach(product -> product.addStockChangeListener(this));
+        newWatched.rowsByName.keySet().forEach(newWatched::refresh);
+    }
+
+    public void subscribe(Consumer<RestockEvent> subscriber) {
+        Optional.ofNullable(subscriber)
+                .ifPresent(subscribers::add);
+    }
+
+    @Override
+    public void onStockChanged(Product product) {
+        Watched current = watched;
+        if (current.products.contains(product)) {
+            NameStock updated = current.refresh(product.getName());
+            publishIfRestockNeeded(product.getName(), updated.previousStock(), updated.stock());
+        }
+    }
+
+    private void publishIfRestockNeeded(String name, int previousStock, int currentStock) {
+        if (crossedThreshold(previousStock, currentStock) || becameSoldOut(previousStock, currentStock)) {
+            RestockEvent event = new RestockEvent(name, currentStock);
+            subscribers.forEach(subscriber -> subscriber.accept(event));
+        }
+    }
+
+    private boolean crossedThreshold(int previousStock, int currentStock) {
+        return previousStock >= restockThreshold && currentStock < restockThreshold;
+    }
+
+    private boolean becameSoldOut(int previousStock, int currentStock) {
+        return previousStock > 0 && currentStock <= 0;
+    }
+
+    public int getStock(String name) {
+        return Optional.ofNullable(watched.stockByName.get(name))
+                .map(NameStock::stock)
+                .orElse(0);
+    }
+
+    public boolean isSoldOut(String name) {
+        return Optional.ofNullable(watched.stockByName.get(name))
+                .filter(nameStock -> nameStock.stock() <= 0)
+                .isPresent();
+    }
+
+    public List<String> getSoldOutProducts() {
+        return getProductsUnder(1);
+    }
+
+    public List<String> getProductsUnder(int threshold) {
+        return watched.namesByStock.headSet(new NameStock(threshold, 0, ""), false).stream()
+                .map(NameStock::name)
+                .toList();
+    }
+
+    private record NameStock(int stock, int previousStock, String name) {
+        private static final Comparator<NameStock> BY_STOCK = Comparator.comparingInt(NameStock::stock)
+                .thenComparing(NameStock::name);
+    }
+
+    private static class Watched {
+        private final Set<Product> products = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<String, List<Product>> rowsByName = new HashMap<>();
+        private final Map<String, NameStock> stockByName = new ConcurrentHashMap<>();
+        private final NavigableSet<NameStock> namesByStock = new ConcurrentSkipListSet<>(NameStock.BY_STOCK);
+
+        private Watched(List<Product> products) {
+            this.products.addAll(products);
+            products.forEach(product -> rowsByName.computeIfAbsent(product.getName(), name -> new ArrayList<>())
+                    .add(product));
+        }
+
+        private NameStock refresh(String name) {
+            return stockByName.compute(name, (key, previous) -> {
+                int previousStock = Optional.ofNullable(previous).map(NameStock::stock).orElse(0);
+                NameStock updated = new NameStock(calculateStock(key), previousStock, key);
+                Optional.ofNullable(previous).ifPresent(namesByStock::remove);
+                namesByStock.add(updated);
+                return updated;
+            });
+        }
+
+        private int calculateStock(String name) {
+            return rowsByName.getOrDefault(name, List.of()).stream()
+                    .mapToInt(Product::getTotalStock)
+                    .sum();
+        }
+    }
+}
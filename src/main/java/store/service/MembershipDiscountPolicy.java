@@ -0,0 +1,6 @@
+package store.service;
+
+@FunctionalInterface
+public interface MembershipDiscountPolicy {
+    long calculateDiscount(long eligibleAmount);
+}
@@ -1,170 +1,251 @@
 package store.service;
 
-import java.util.ArrayList;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import store.exception.ErrorCode;
 import store.model.Cart;
+import store.model.Money;
 import store.model.Order;
-import store.model.Product;
-import store.model.PromotionType;
-import store.service.ProductService.OrderProcessingResult;
-import java.util.function.Function;
-import java.util.stream.Stream;
+import store.model.OrderRequest;
+import store.model.PresetAnswers;
+import store.model.PricedCart;
+import store.model.ProductQuery;
+import store.model.PromotionAllocation;
+import store.model.Quote;
+import store.util.NameIndex;
 
 public class OrderService {
-    private static final int MEMBERSHIP_DISCOUNT_RATE = 30;
-    private static final int MAX_MEMBERSHIP_DISCOUNT = 8000;
+    private static final String DEFAULT_SESSION_ID = "console";
 
     private final ProductService productService;
-    private Cart cart;
-    private List<OrderProcessingResult> pendingOrders;
+    private final SalesAggregator salesAggregator;
+    private final SessionManager sessionManager;
+    private final QuoteCache quoteCache;
+    private final NameIndex productIds;
+    private final String sessionId;
+    private CheckoutSession attachedSession;
 
     public OrderService(ProductService productService) {
+        this(productService, new SalesAggregator());
+    }
+
+    public OrderService(ProductService productService, SalesAggregator salesAggregator) {
+        this(productService, salesAggregator, new SessionManager());
+    }
+
+    public OrderService(ProductService productService, SalesAggregator salesAggregator,
+                        SessionManager sessionManager) {
+        this(productService, salesAggregator, sessionManager, new QuoteCache(), new NameIndex(), DEFAULT_SESSION_ID);
+        productService.addCatalogListener(catalog -> quoteCache.invalidateAll());
+    }
+
+    private OrderService(ProductService productService, SalesAggregator salesAggregator,
+                         SessionManager sessionManager, QuoteCache quoteCache, NameIndex productIds,
+                         String sessionId) {
         this.productService = productService;
-        this.cart = new Cart();
-        this.pendingOrders = new ArrayList<>();
+        this.salesAggregator = salesAggregator;
+        this.sessionManager = sessionManager;
+        this.quoteCache = quoteCache;
+        this.productIds = productIds;
+        this.sessionId = sessionId;
+    }
+
+    public OrderService forSession(String sessionId) {
+        return new OrderService(productService, salesAggregator, sessionManager, quoteCache, productIds, sessionId);
+    }
+
+    public QuoteCache getQuoteCache() {
+        return quoteCache;
+    }
+
+    public SessionManager getSessionManager() {
+        return sessionManager;
+    }
+
+    public SalesAggregator getSalesAggregator() {
+        return salesAggregator;
+    }
+
+    private CheckoutSession session() {
+        if (attachedSession != null && attachedSession.isEvicted()) {
+            reopenExpired(attachedSession);
+            throw new IllegalArgumentException(ErrorCode.SESSION_EXPIRED.getMessage());
+        }
+        attachedSession = sessionManager.open(sessionId);
+        return attachedSession;
+    }
+
+    private void reopenExpired(CheckoutSession expired) {
+        attachedSession = null;
+        CheckoutSession reopened = sessionManager.open(sessionId);
+        reopened.keepSettingsOf(expired);
+        attachedSession = reopened;
     }
 
     public Cart getCart() {
-        return cart;
+        return session().getCart();
+    }
+
+    public PresetAnswers getPresetAnswers() {
+        return session().getPresetAnswers();
+    }
+
+    public void presetAnswers(PresetAnswers presetAnswers) {
+        session().setPresetAnswers(presetAnswers);
+    }
+
+    public ProductQuery getProductQuery() {
+        return session().getProductQuery();
+    }
+
+    public void productQuery(ProductQuery productQuery) {
+        session().setProductQuery(productQuery);
+    }
+
+    public CheckoutContext getCheckoutContext() {
+        return session().getCheckoutContext(productService::openCheckout);
+    }
+
+    public void beginAttempt() {
+        session().discardCheckoutContext();
     }
 
     public void addToCart(String productName, int quantity, boolean isPromotional) {
-        Optional.ofNullable(productService.findOriginalProduct(productName))
-                .map(product -> createOrder(product, quantity, isPromotional))
-                .ifPresent(cart::addOrder);
+        createOrder(productName, quantity, isPromotional)
+                .ifPresent(getCart()::addOrder);
+    }
+
+    private Optional<Order> createOrder(String productName, int quantity, boolean isPromotional) {
+        return createOrder(getCheckoutContext(), productName, quantity, isPromotional);
     }
 
-    private Order createOrder(Product product, int quantity, boolean isPromotional) {
-        return new Order(product, quantity, isPromotional);
+    private Optional<Order> createOrder(CheckoutContext context, String productName, int quantity,
+                                        boolean isPromotional) {
+        PromotionAllocation allocation = productService.allocate(context, productName, quantity);
+        return Optional.ofNullable(productService.findOriginalProduct(context, productName))
+                .map(product -> new Order(product, quantity, isPromotional, allocation));
     }
 
     public void processOrder(String productName, int totalQuantity) {
-        Optional.of(new OrderProcessingResult(totalQuantity, 0, 0))
-                .map(result -> {
-                    addToCart(productName, totalQuantity, true);
-                    pendingOrders.add(result);
-                    return result;
+        CheckoutSession session = session();
+        createOrder(productName, totalQuantity, true)
+                .ifPresent(order -> {
+                    session.getCart().addOrder(order);
+                    session.getPendingOrders().add(order);
                 });
     }
 
     public void applyPendingOrders() {
-        Optional.of(pendingOrders)
-                .map(List::stream)
-                .ifPresent(stream ->
-                        stream.forEach(result ->
-                                productService.applyOrder(getProductName(result), result)));
+        applyPendingOrders(Money.ZERO);
+    }
+
+    public void applyPendingOrders(Money membershipDiscount) {
+        LocalDateTime committedAt = productService.getClock().now();
+        List<Order> pendingOrders = session().getPendingOrders();
+        try {
+            productService.commitOrders(pendingOrders);
+        } catch (IllegalArgumentException e) {
+            clearCart();
+            throw e;
+        }
+        pendingOrders.forEach(order -> salesAggregator.recordOrder(committedAt, order));
+        salesAggregator.recordMembershipDiscount(committedAt, membershipDiscount.getAmount());
         pendingOrders.clear();
     }
 
-    private String getProductName(OrderProcessingResult result) {
-        return Optional.of(cart)
-                .map(Cart::getOrders)
-                .map(List::stream)
-                .flatMap(stream -> stream
-                        .filter(order -> order.getQuantity() == result.getTotalQuantity())
-                        .map(order -> order.getProduct().getName())
-                        .findFirst())
-                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.ORDER_NOT_FOUND.getMessage()));
+    public Quote quote(List<OrderRequest> requests, boolean useMembership) {
+        CheckoutContext context = productService.openCheckout();
+        CartFingerprint.Builder fingerprint = CartFingerprint.builder(requests.size());
+        requests.forEach(request -> fingerprint.line(productIds.idOf(request.productName()), request.quantity(),
+                countPromotionSets(context, request)));
+        return quoteCache.get(fingerprint.build(useMembership, context.getCatalog().getVersion()),
+                () -> priceQuote(context, requests, useMembership));
     }
 
-    public int calculateTotalPrice() {
-        return Optional.of(cart)
-                .map(Cart::getOrders)
-                .map(orders -> orders.stream()
-                        .mapToInt(Order::calculateTotalPrice)
-                        .sum())
-                .orElse(0);
+    private int countPromotionSets(CheckoutContext context, OrderRequest request) {
+        if (!productService.checkStock(context, request.productName(), request.quantity())) {
+            throw new IllegalArgumentException(ErrorCode.INVENTORY_QUANTITY_EXCEEDED.getMessage());
+        }
+        return productService.countApplicablePromotionSets(context, request.productName(), request.quantity());
     }
 
-    public int calculatePromotionDiscount() {
-        return Optional.of(cart)
-                .map(Cart::getOrders)
-                .map(List::stream)
-                .map(this::filterPromotionalOrders)
-                .map(this::calculateTotalDiscount)
-                .orElse(0);
+    private Quote priceQuote(CheckoutContext context, List<OrderRequest> requests, boolean useMembership) {
+        return price(context, requests, useMembership).quote();
     }
 
-    private Stream<Order> filterPromotionalOrders(Stream<Order> orders) {
-        return orders.filter(Order::isPromotional)
-                .filter(order -> order.getProduct().hasPromotion());
+    public PricedCart price(CheckoutContext context, List<OrderRequest> requests, boolean useMembership) {
+        Cart cart = new Cart();
+        requests.forEach(request -> createOrder(context, request.productName(), request.quantity(), true)
+                .ifPresent(cart::addOrder));
+        return new PricedCart(cart, quoteOf(cart, useMembership));
     }
 
-    private int calculateTotalDiscount(Stream<Order> orders) {
-        return orders.mapToInt(this::calculateDiscountByOrder).sum();
+    private Quote quoteOf(Cart cart, boolean useMembership) {
+        Money totalPrice = cart.calculateTotalPrice();
+        Money promotionDiscount = calculatePromotionDiscount(cart);
+        Money membershipDiscount = Optional.of(useMembership)
+                .filter(use -> use)
+                .map(use -> calculateMembershipDiscount(cart))
+                .orElse(Money.ZERO);
+        return new Quote(totalPrice, promotionDiscount, membershipDiscount);
     }
 
-    private int calculateDiscountByOrder(Order order) {
-        return getPromotionType(order.getProduct())
-                .map(type -> calculateDiscountByType(order, type))
-                .orElse(0);
+    public Money calculateTotalPrice() {
+        return Optional.of(getCart())
+                .map(Cart::calculateTotalPrice)
+                .orElse(Money.ZERO);
     }
 
-    private Optional<PromotionType> getPromotionType(Product product) {
-        return Optional.of(product)
-                .filter(Product::hasPromotion)
-                .map(Product::getPromotion)
-                .map(PromotionType::fromName);
+    public Money calculatePromotionDiscount() {
+        return calculatePromotionDiscount(getCart());
     }
 
-    private int calculateDiscountByType(Order order, PromotionType type) {
-        Map<PromotionType, Function<Order, Integer>> discountCalculators = Map.of(
-                PromotionType.MD_RECOMMENDATION, this::calculateMDPromotionDiscount,
-                PromotionType.BUY_2_GET_1, this::calculateBuy2Get1Discount,
-                PromotionType.FLASH_SALE, this::calculateFlashSaleDiscount
-        );
-
-        return Optional.ofNullable(discountCalculators.get(type))
-                .map(calculator -> calculator.apply(order))
-                .orElse(0);
+    private Money calculatePromotionDiscount(Cart cart) {
+        long discount = 0;
+        for (int index = 0; index < cart.size(); index++) {
+            if (cart.isPromotional(index)) {
+                discount = Money.addExact(discount, calculateDiscountByOrder(cart, index));
+            }
+        }
+        return Money.of(discount);
     }
 
-    private int calculateMDPromotionDiscount(Order order) {
-        return order.getProduct().getPrice();
+    private long calculateDiscountByOrder(Cart cart, int index) {
+        return Money.multiplyExact(cart.getProduct(index).getPrice().getAmount(),
+                cart.getAllocation(index).freeQuantity());
     }
 
-    private int calculateBuy2Get1Discount(Order order) {
-        return (order.getQuantity() / 3) * order.getProduct().getPrice();
+    public Money calculateMembershipDiscount(Money totalPrice, Money promotionDiscount) {
+        return calculateMembershipDiscount(getCart());
     }
 
-    private int calculateFlashSaleDiscount(Order order) {
-        return order.getProduct().getPrice();
+    private Money calculateMembershipDiscount(Cart cart) {
+        return Optional.of(calculateNormalItemsPrice(cart))
+                .map(productService.getMembershipDiscountPolicy()::calculateDiscount)
+                .map(Money::of)
+                .orElse(Money.ZERO);
     }
 
-    public int calculateMembershipDiscount(int totalPrice, int promotionDiscount) {
-        return Optional.of(calculateNormalItemsPrice())
-                .map(this::calculateRawMembershipDiscount)
-                .map(this::applyMembershipDiscountLimit)
-                .orElse(0);
+    private long calculateNormalItemsPrice(Cart cart) {
+        long price = 0;
+        for (int index = 0; index < cart.size(); index++) {
+            price = Money.addExact(price, calculateNonPromotionPrice(cart, index));
+        }
+        return price;
     }
 
-    private int calculateNormalItemsPrice() {
-        return Optional.of(cart)
-                .map(Cart::getOrders)
-                .map(List::stream)
-                .map(stream -> stream
-                        .filter(order -> !order.getProduct().hasPromotion())
-                        .mapToInt(Order::calculateTotalPrice)
-                        .sum())
-                .orElse(0);
+    private long calculateNonPromotionPrice(Cart cart, int index) {
+        return Money.multiplyExact(cart.getProduct(index).getPrice().getAmount(),
+                cart.getAllocation(index).getNonPromotionQuantity());
     }
 
-    private int calculateRawMembershipDiscount(int price) {
-        return (price * MEMBERSHIP_DISCOUNT_RATE) / 100;
-    }
-
-    private int applyMembershipDiscountLimit(int discount) {
-        return Math.min(discount, MAX_MEMBERSHIP_DISCOUNT);
+    public void clearCart() {
+        session().reset();
     }
 
-    public void clearCart() {
-        Optional.of(new Cart())
-                .ifPresent(newCart -> {
-                    this.cart = newCart;
-                    this.pendingOrders = new ArrayList<>();
-                });
+    public void closeSession() {
+        attachedSession = null;
+        sessionManager.close(sessionId);
     }
 }
\ No newline at end of file
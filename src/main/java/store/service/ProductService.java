@@ -1,76 +1,197 @@
 package store.service;
 
 import store.exception.ErrorCode;
+import store.model.Catalog;
+import store.model.InventorySnapshot;
+import store.model.MembershipTier;
+import store.model.Money;
+import store.model.Order;
 import store.model.Product;
 import store.model.Promotion;
-import store.model.PromotionType;
+import store.model.PromotionAllocation;
+import store.service.StockLockManager.StockLocks;
 import store.util.FileReader;
+import store.util.StoreClock;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class ProductService {
-    private static final int MEMBERSHIP_DISCOUNT_RATE = 30;
-    private static final int MAX_MEMBERSHIP_DISCOUNT = 8000;
-
-    private final List<Product> products;
-    private final Map<String, Promotion> promotions;
+    private static final int RESTOCK_THRESHOLD = 5;
+    private static final int SUGGESTION_LIMIT = 3;
+
+    private final AtomicReference<Catalog> catalog;
+    private final InventoryWatcher inventoryWatcher;
+    private final InventoryVersions inventoryVersions;
+    private final PromotionAllocator promotionAllocator = new PromotionAllocator();
+    private final StockLockManager stockLockManager = new StockLockManager();
+    private final Set<String> shardedProducts = ConcurrentHashMap.newKeySet();
+    private final List<Consumer<Catalog>> catalogListeners = new CopyOnWriteArrayList<>();
+    private final List<MembershipTier> membershipTiers;
+    private final MembershipDiscountPolicy membershipDiscountPolicy;
+    private final StoreClock clock;
 
     public ProductService(FileReader fileReader) {
-        this.products = fileReader.getProducts();
-        this.promotions = fileReader.getPromotions().stream()
-                .collect(Collectors.toMap(Promotion::getName, promotion -> promotion));
+        this(fileReader, StoreClock.system());
+    }
+
+    public ProductService(FileReader fileReader, StoreClock clock) {
+        this.clock = clock;
+        this.catalog = new AtomicReference<>(Catalog.of(fileReader.getProducts(), fileReader.getPromotions()));
+        this.membershipTiers = List.copyOf(fileReader.getMembershipTiers());
+        this.membershipDiscountPolicy = TieredMembershipDiscountPolicy.of(membershipTiers);
+        this.inventoryWatcher = new InventoryWatcher(RESTOCK_THRESHOLD);
+        inventoryWatcher.watch(getProducts());
+        this.inventoryVersions = new InventoryVersions(getProducts());
     }
 
     public List<Product> getProducts() {
-        return products;
+        return catalog.get().getProducts();
     }
 
-    public Product findProduct(String name) {
-        List<Product> availableProducts = getAvailableProducts(name);
-        return findPromotionalProduct(availableProducts)
-                .orElseGet(() -> findNormalProductFromList(availableProducts));
+    public Catalog getCatalog() {
+        return catalog.get();
     }
 
-    private List<Product> getAvailableProducts(String name) {
-        return products.stream()
-                .filter(product -> product.getName().equals(name))
-                .filter(product -> product.getTotalStock() > 0)
-                .toList();
+    public InventorySnapshot getInventorySnapshot() {
+        return inventoryVersions.current();
+    }
+
+    public StoreClock getClock() {
+        return clock;
+    }
+
+    public List<MembershipTier> getMembershipTiers() {
+        return membershipTiers;
+    }
+
+    public MembershipDiscountPolicy getMembershipDiscountPolicy() {
+        return membershipDiscountPolicy;
+    }
+
+    public StockLockManager getStockLockManager() {
+        return stockLockManager;
+    }
+
+    public InventoryWatcher getInventoryWatcher() {
+        return inventoryWatcher;
+    }
+
+    public Set<String> getShardedProducts() {
+        return Set.copyOf(shardedProducts);
+    }
+
+    public void enableShardedStock(Collection<String> productNames) {
+        shardedProducts.addAll(productNames);
+        applySharding(catalog.get());
     }
 
-    private Optional<Product> findPromotionalProduct(List<Product> availableProducts) {
-        return availableProducts.stream()
-                .filter(Product::hasPromotion)
-                .filter(p -> promotions.get(p.getPromotion()).isValid())
-                .findFirst();
+    private void applySharding(Catalog current) {
+        int shardCount = Runtime.getRuntime().availableProcessors();
+        current.getProducts().stream()
+                .filter(product -> shardedProducts.contains(product.getName()))
+                .forEach(product -> product.enableSharding(shardCount));
     }
 
-    private Product findNormalProductFromList(List<Product> availableProducts) {
-        return availableProducts.stream()
-                .filter(p -> !p.hasPromotion())
-                .findFirst()
+    public void replaceCatalog(Catalog newCatalog) {
+        applySharding(newCatalog);
+        inventoryWatcher.watch(newCatalog.getProducts());
+        inventoryVersions.track(newCatalog.getProducts());
+        catalog.set(newCatalog);
+        catalogListeners.forEach(listener -> listener.accept(newCatalog));
+    }
+
+    public void addCatalogListener(Consumer<Catalog> listener) {
+        catalogListeners.add(listener);
+    }
+
+    public Product findProduct(String name) {
+        return findProduct(catalog.get(), name, clock.now());
+    }
+
+    private Product findProduct(Catalog current, String name, LocalDateTime now) {
+        return Optional.of(name)
+                .filter(productName -> !inventoryWatcher.isSoldOut(productName))
+                .flatMap(productName -> current.findAvailableProduct(productName, now))
                 .orElseThrow(() -> new IllegalArgumentException(ErrorCode.NON_EXISTENT_PRODUCT.getMessage()));
     }
 
     public Product findOriginalProduct(String name) {
-        return products.stream()
-                .filter(product -> product.getName().equals(name))
-                .findFirst()
+        return findOriginalProduct(catalog.get(), name);
+    }
+
+    public Product findOriginalProduct(CheckoutContext context, String name) {
+        return findOriginalProduct(context.getCatalog(), name);
+    }
+
+    private Product findOriginalProduct(Catalog current, String name) {
+        return current.findOriginalProduct(name)
                 .orElseThrow(() -> new IllegalArgumentException(ErrorCode.NON_EXISTENT_PRODUCT.getMessage()));
     }
 
+    public boolean hasProduct(CheckoutContext context, String name) {
+        return context.getCatalog().findOriginalProduct(name).isPresent();
+    }
+
+    public List<String> suggestProductNames(CheckoutContext context, String query) {
+        return context.getCatalog().suggestNames(query, SUGGESTION_LIMIT);
+    }
+
+    public CheckoutContext openCheckout() {
+        return new CheckoutContext(catalog.get(), clock.now());
+    }
+
+    private PromotionState resolve(CheckoutContext context, String productName) {
+        return context.resolve(productName,
+                name -> createPromotionState(context.getCatalog(), name, context.getNow()));
+    }
+
+    private PromotionState createPromotionState(Catalog current, String name, LocalDateTime now) {
+        Product product = findProduct(current, name, now);
+        Optional<Promotion> validPromotion = current.findValidPromotion(product, now);
+        return new PromotionState(
+                product,
+                current.findPromotion(product).orElse(null),
+                validPromotion.orElse(null),
+                validPromotion.map(promotion -> current.findPromotionCandidates(name, now)).orElseGet(List::of),
+                current.findNormalProduct(name).map(Product::getNormalStock).orElse(0)
+        );
+    }
+
+    public int countApplicablePromotionSets(CheckoutContext context, String productName, int quantity) {
+        return resolve(context, productName).getCandidates().stream()
+                .mapToInt(candidate -> Math.min(Math.max(candidate.promotionStock(), 0) / candidate.getSetSize(),
+                        quantity / candidate.getSetSize()))
+                .sum();
+    }
+
     public boolean checkStock(String productName, int quantity) {
-        return Optional.of(findProduct(productName))
+        return checkStock(openCheckout(), productName, quantity);
+    }
+
+    public boolean checkStock(CheckoutContext context, String productName, int quantity) {
+        return Optional.of(resolve(context, productName))
+                .map(PromotionState::getProduct)
                 .map(product -> product.getTotalStock() >= quantity)
                 .orElse(false);
     }
 
     public OrderProcessingResult processOrder(String productName, int requestedQuantity) {
-        Product product = findProduct(productName);
-        validateStock(product, requestedQuantity);
-        return calculateOrderQuantities(product, requestedQuantity);
+        return processOrder(openCheckout(), productName, requestedQuantity);
+    }
+
+    public OrderProcessingResult processOrder(CheckoutContext context, String productName, int requestedQuantity) {
+        validateStock(resolve(context, productName).getProduct(), requestedQuantity);
+        return OrderProcessingResult.from(allocate(context, productName, requestedQuantity));
     }
 
     private void validateStock(Product product, int requestedQuantity) {
@@ -79,149 +200,151 @@ public class ProductService {
                 .orElseThrow(() -> new IllegalArgumentException(ErrorCode.INVENTORY_QUANTITY_EXCEEDED.getMessage()));
     }
 
-    private OrderProcessingResult calculateOrderQuantities(Product product, int requestedQuantity) {
-        return Optional.of(product)
-                .filter(Product::hasPromotion)
-                .map(p -> calculatePromotionalOrder(p, requestedQuantity))
-                .orElseGet(() -> new OrderProcessingResult(0, requestedQuantity, 0));
+    public PromotionAllocation allocate(String productName, int requestedQuantity) {
+        return allocate(openCheckout(), productName, requestedQuantity);
     }
 
-    private OrderProcessingResult calculatePromotionalOrder(Product product, int requestedQuantity) {
-        return Optional.ofNullable(promotions.get(product.getPromotion()))
-                .filter(Promotion::isValid)
-                .map(promotion -> processValidPromotion(product, requestedQuantity, promotion))
-                .orElseGet(() -> new OrderProcessingResult(0, requestedQuantity, 0));
-    }
-
-    private OrderProcessingResult processValidPromotion(Product product, int requestedQuantity, Promotion promotion) {
-        PromotionSetsInfo setsInfo = calculatePromotionSets(product, requestedQuantity, promotion);
-        return createPromotionResult(product, setsInfo);
-    }
-
-    private PromotionSetsInfo calculatePromotionSets(Product product, int requestedQuantity, Promotion promotion) {
-        int promotionSetSize = promotion.getBuyQuantity() + promotion.getFreeQuantity();
-        int availablePromotionSets = product.getPromotionalStock() / promotionSetSize;
-        int requestedSets = requestedQuantity / promotionSetSize;
-        int usedSets = Math.min(availablePromotionSets, requestedSets);
-
-        return new PromotionSetsInfo(
-                usedSets * promotion.getBuyQuantity(),
-                usedSets * promotion.getFreeQuantity(),
-                requestedQuantity - (usedSets * promotionSetSize)
-        );
+    public PromotionAllocation allocate(CheckoutContext context, String productName, int requestedQuantity) {
+        PromotionState state = resolve(context, productName);
+        return Optional.of(state.allocate(requestedQuantity, quantity ->
+                        promotionAllocator.allocate(quantity, state.getNormalStock(), state.getCandidates())))
+                .filter(allocation -> !allocation.hasShortage())
+                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.INVENTORY_QUANTITY_EXCEEDED.getMessage()));
     }
 
-    private OrderProcessingResult createPromotionResult(Product product, PromotionSetsInfo setsInfo) {
-        return Optional.of(setsInfo)
-                .filter(info -> info.remainingQuantity() > 0)
-                .map(info -> handleRemainingQuantity(product, info))
-                .orElseGet(() -> new OrderProcessingResult(
-                        setsInfo.promotionQuantity(),
-                        0,
-                        setsInfo.freeQuantity()
-                ));
+    public void applyOrder(String productName, PromotionAllocation allocation) {
+        commitAllocations(List.of(new ProductAllocation(productName, allocation)));
     }
 
-    private OrderProcessingResult handleRemainingQuantity(Product product, PromotionSetsInfo setsInfo) {
-        return Optional.ofNullable(findNormalProduct(product.getName()))
-                .filter(normalProduct -> normalProduct.getNormalStock() >= setsInfo.remainingQuantity())
-                .map(normalProduct -> new OrderProcessingResult(
-                        setsInfo.promotionQuantity(),
-                        setsInfo.remainingQuantity(),
-                        setsInfo.freeQuantity()
-                ))
-                .orElseGet(() -> new OrderProcessingResult(
-                        setsInfo.promotionQuantity(),
-                        0,
-                        setsInfo.freeQuantity()
-                ));
+    public void commitOrders(List<Order> orders) {
+        commitAllocations(orders.stream()
+                .map(order -> new ProductAllocation(order.getProduct().getName(), order.getAllocation()))
+                .toList());
     }
 
-    public void applyOrder(String productName, OrderProcessingResult result) {
-        applyPromotionOrder(productName, result);
-        applyNormalOrder(productName, result);
+    private void commitAllocations(List<ProductAllocation> allocations) {
+        List<String> lockedProducts = allocations.stream()
+                .map(ProductAllocation::productName)
+                .filter(name -> !shardedProducts.contains(name))
+                .distinct()
+                .toList();
+        StockLocks locks = stockLockManager.lockAll(lockedProducts);
+        try {
+            inventoryVersions.commit(() -> reserveLatest(allocations));
+        } finally {
+            locks.close();
+        }
     }
 
-    private void applyPromotionOrder(String productName, OrderProcessingResult result) {
-        Optional.ofNullable(findPromotionProduct(productName))
-                .ifPresent(product -> product.decreasePromotionStock(result.promotionQuantity() + result.freeItems()));
+    private void reserveLatest(List<ProductAllocation> allocations) {
+        Catalog current = catalog.get();
+        try {
+            reserve(current, allocations);
+        } catch (IllegalArgumentException e) {
+            if (catalog.get() == current) {
+                throw e;
+            }
+            reserve(catalog.get(), allocations);
+        }
     }
 
-    private void applyNormalOrder(String productName, OrderProcessingResult result) {
-        Optional.ofNullable(findNormalProduct(productName))
-                .ifPresent(product -> product.decreaseNormalStock(result.normalQuantity()));
+    private void reserve(Catalog current, List<ProductAllocation> allocations) {
+        Map<Product, Integer> promotionDemand = new IdentityHashMap<>();
+        Map<Product, Integer> normalDemand = new IdentityHashMap<>();
+        for (ProductAllocation line : allocations) {
+            addPromotionDemand(current, line, promotionDemand);
+            addNormalDemand(current, line, normalDemand);
+        }
+        reserve(promotionDemand, normalDemand);
     }
 
-    public int calculatePromotionDiscount(String productName, int quantity) {
-        return Optional.of(findProduct(productName))
-                .filter(Product::hasPromotion)
-                .filter(p -> promotions.get(p.getPromotion()).isValid())
-                .map(p -> calculateProductDiscount(p, quantity))
-                .orElse(0);
+    private void reserve(Map<Product, Integer> promotionDemand, Map<Product, Integer> normalDemand) {
+        Map<Product, Integer> reservedPromotion = new IdentityHashMap<>();
+        Map<Product, Integer> reservedNormal = new IdentityHashMap<>();
+        try {
+            promotionDemand.forEach((product, quantity) -> reserveRow(product, quantity,
+                    product.tryReservePromotionStock(quantity), reservedPromotion));
+            normalDemand.forEach((product, quantity) -> reserveRow(product, quantity,
+                    product.tryReserveNormalStock(quantity), reservedNormal));
+        } catch (IllegalArgumentException e) {
+            reservedPromotion.forEach(Product::releasePromotionStock);
+            reservedNormal.forEach(Product::releaseNormalStock);
+            throw e;
+        }
+        Stream.concat(reservedPromotion.keySet().stream(), reservedNormal.keySet().stream())
+                .distinct()
+                .forEach(Product::publishStockChange);
     }
 
-    private int calculateProductDiscount(Product product, int quantity) {
-        Promotion promotion = promotions.get(product.getPromotion());
-        int availablePromotionSets = Math.min(
-                product.getPromotionalStock() / promotion.getBuyQuantity(),
-                quantity / promotion.getBuyQuantity()
-        );
-        return availablePromotionSets * promotion.getFreeQuantity() * product.getPrice();
+    private void reserveRow(Product product, int quantity, boolean taken, Map<Product, Integer> reserved) {
+        if (!taken) {
+            throw new IllegalArgumentException(ErrorCode.INVENTORY_QUANTITY_EXCEEDED.getMessage());
+        }
+        reserved.put(product, quantity);
     }
 
-    public int calculateMembershipDiscount(int totalPrice, int promotionDiscount) {
-        return Optional.of(totalPrice - promotionDiscount)
-                .map(this::calculateRawDiscount)
-                .map(this::applyDiscountLimit)
-                .orElse(0);
+    private void addPromotionDemand(Catalog current, ProductAllocation line, Map<Product, Integer> demand) {
+        PromotionAllocation allocation = line.allocation();
+        if (!allocation.hasPromotion() || allocation.getPromotionStockUsed() == 0) {
+            return;
+        }
+        Product product = current.findPromotionProduct(line.productName(), allocation.promotionName())
+                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.INVENTORY_QUANTITY_EXCEEDED.getMessage()));
+        demand.merge(product, allocation.getPromotionStockUsed(), Integer::sum);
     }
 
-    private int calculateRawDiscount(int amount) {
-        return (amount * MEMBERSHIP_DISCOUNT_RATE) / 100;
+    private void addNormalDemand(Catalog current, ProductAllocation line, Map<Product, Integer> demand) {
+        int quantity = line.allocation().normalQuantity();
+        if (quantity == 0) {
+            return;
+        }
+        Product product = current.findNormalProduct(line.productName())
+                .orElseThrow(() -> new IllegalArgumentException(ErrorCode.INVENTORY_QUANTITY_EXCEEDED.getMessage()));
+        demand.merge(product, quantity, Integer::sum);
     }
 
-    private int applyDiscountLimit(int discount) {
-        return Math.min(discount, MAX_MEMBERSHIP_DISCOUNT);
+    public Money calculatePromotionDiscount(String productName, int quantity) {
+        CheckoutContext context = openCheckout();
+        return resolve(context, productName).getProduct().getPrice()
+                .times(allocate(context, productName, quantity).freeQuantity());
     }
 
-    private Product findPromotionProduct(String name) {
-        return products.stream()
-                .filter(p -> p.getName().equals(name))
-                .filter(Product::hasPromotion)
-                .findFirst()
-                .orElse(null);
+    public Money calculateMembershipDiscount(Money totalPrice, Money promotionDiscount) {
+        return Money.of(membershipDiscountPolicy.calculateDiscount(totalPrice.minus(promotionDiscount).getAmount()));
     }
 
-    private Product findNormalProduct(String name) {
-        return products.stream()
-                .filter(p -> p.getName().equals(name))
-                .filter(p -> !p.hasPromotion())
-                .findFirst()
-                .orElse(null);
+    public boolean isMDRecommendationPromotion(String productName) {
+        return isMDRecommendationPromotion(openCheckout(), productName);
     }
 
-    public boolean isMDRecommendationPromotion(String productName) {
-        return Optional.ofNullable(findProduct(productName))
-                .filter(Product::hasPromotion)
-                .map(product -> promotions.get(product.getPromotion()))
-                .map(Promotion::getType)
-                .filter(type -> type == PromotionType.MD_RECOMMENDATION)
+    public boolean isMDRecommendationPromotion(CheckoutContext context, String productName) {
+        return resolve(context, productName).getPromotion()
+                .filter(Promotion::shouldAskForPromotion)
                 .isPresent();
     }
 
+    private record ProductAllocation(String productName, PromotionAllocation allocation) {}
+
     public record OrderProcessingResult(int promotionQuantity, int normalQuantity, int freeItems) {
+        public static OrderProcessingResult from(PromotionAllocation allocation) {
+            return new OrderProcessingResult(
+                    allocation.paidPromotionQuantity() + allocation.promotionRemainder(),
+                    allocation.normalQuantity(),
+                    allocation.freeQuantity()
+            );
+        }
+
         public int getTotalQuantity() {
             return promotionQuantity + normalQuantity + freeItems;
         }
     }
 
-    private record PromotionSetsInfo(int promotionQuantity, int freeQuantity, int remainingQuantity) {}
-
     public int getPromotionalFreeQuantity(String productName) {
-        return Optional.of(findProduct(productName))
-                .filter(Product::hasPromotion)
-                .map(p -> promotions.get(p.getPromotion()))
-                .filter(Promotion::isValid)
+        return getPromotionalFreeQuantity(openCheckout(), productName);
+    }
+
+    public int getPromotionalFreeQuantity(CheckoutContext context, String productName) {
+        return resolve(context, productName).getValidPromotion()
                 .map(Promotion::getFreeQuantity)
                 .orElse(0);
     }
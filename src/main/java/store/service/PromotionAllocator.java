@@ -0,0 +1,39 @@
+package store.service;
+
+import java.util.Comparator;
+import java.util.List;
+import store.model.PromotionAllocation;
+import store.model.PromotionCandidate;
+
+public class PromotionAllocator {
+    private static final Comparator<PromotionAllocation> BEST_ALLOCATION = Comparator
+            .comparingInt(PromotionAllocation::shortage)
+            .thenComparing(Comparator.comparingInt(PromotionAllocation::freeQuantity).reversed())
+            .thenComparingInt(PromotionAllocation::normalQuantity);
+
+    public PromotionAllocation allocate(int requestedQuantity, int normalStock, List<PromotionCandidate> candidates) {
+        return candidates.stream()
+                .map(candidate -> allocate(requestedQuantity, normalStock, candidate))
+                .min(BEST_ALLOCATION)
+                .orElseGet(() -> PromotionAllocation.withoutPromotion(requestedQuantity, normalStock));
+    }
+
+    public PromotionAllocation allocate(int requestedQuantity, int normalStock, PromotionCandidate candidate) {
+        int setSize = candidate.getSetSize();
+        int promotionStock = Math.max(candidate.promotionStock(), 0);
+        int promotionSets = Math.min(promotionStock / setSize, requestedQuantity / setSize);
+        int setQuantity = promotionSets * setSize;
+        int promotionRemainder = Math.min(requestedQuantity - setQuantity, promotionStock - setQuantity);
+        int normalQuantity = Math.min(requestedQuantity - setQuantity - promotionRemainder, Math.max(normalStock, 0));
+
+        return new PromotionAllocation(
+                candidate.promotion().getName(),
+                promotionSets,
+                promotionSets * candidate.promotion().getBuyQuantity(),
+                promotionSets * candidate.promotion().getFreeQuantity(),
+                promotionRemainder,
+                normalQuantity,
+                requestedQuantity - setQuantity - promotionRemainder - normalQuantity
+        );
+    }
+}
@@ -0,0 +1,133 @@
+package store.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import store.model.Catalog;
+import store.model.Product;
+import store.model.Promotion;
+import store.service.StockLockManager.StockLocks;
+import store.util.StoreClock;
+
+public class PromotionExpiryJob implements AutoCloseable {
+    private static final long BOUNDARY_MARGIN_MILLIS = 1;
+
+    private final ProductService productService;
+    private final ScheduledExecutorService scheduler;
+    private ScheduledFuture<?> nextRun;
+
+    public PromotionExpiryJob(ProductService productService) {
+        this.productService = productService;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "promotion-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start() {
+        productService.addCatalogListener(catalog -> scheduleNext());
+        scheduleNext();
+    }
+
+    private synchronized void scheduleNext() {
+        Optional.ofNullable(nextRun)
+                .ifPresent(run -> run.cancel(false));
+        StoreClock clock = productService.getClock();
+        LocalDateTime now = clock.now();
+        nextRun = Optional.of(clock)
+                .filter(current -> !current.isFixed())
+                .flatMap(current -> nextBoundary(productService.getCatalog(), now))
+                .map(boundary -> clock.toWallDuration(Duration.between(now, boundary)))
+                .map(delay -> delay.toMillis() + BOUNDARY_MARGIN_MILLIS)
+                .map(delay -> scheduler.schedule(this::runAtBoundary, delay, TimeUnit.MILLISECONDS))
+                .orElse(null);
+    }
+
+    private static Optional<LocalDateTime> nextBoundary(Catalog catalog, LocalDateTime now) {
+        return catalog.getPromotions().stream()
+                .map(Promotion::getEndDate)
+                .map(endDate -> endDate.plusNanos(1))
+                .filter(expiry -> expiry.isAfter(now))
+                .min(Comparator.naturalOrder());
+    }
+
+    private void runAtBoundary() {
+        expireNow();
+        scheduleNext();
+    }
+
+    public int expireNow() {
+        Catalog current = productService.getCatalog();
+        LocalDateTime now = productService.getClock().now();
+        List<Product> expiredRows = current.getProducts().stream()
+                .filter(product -> current.findPromotion(product)
+                        .filter(promotion -> promotion.isExpired(now))
+                        .isPresent())
+                .toList();
+        if (expiredRows.isEmpty()) {
+            return 0;
+        }
+        StockLocks locks = productService.getStockLockManager().lockAll(expiredRows.stream()
+                .map(Product::getName)
+                .toList());
+        try {
+            productService.replaceCatalog(migrate(productService.getCatalog(), expiredRows));
+        } finally {
+            locks.close();
+        }
+        return expiredRows.size();
+    }
+
+    private static Catalog migrate(Catalog current, List<Product> expiredRows) {
+        List<Product> products = new ArrayList<>(current.getProducts());
+        for (Product expired : expiredRows) {
+            int index = products.indexOf(expired);
+            if (index < 0) {
+                continue;
+            }
+            products.remove(index);
+            int stock = drainPromotionStock(expired);
+            int normalIndex = findNormalRow(products, expired.getName());
+            if (normalIndex < 0) {
+                products.add(index, new Product(expired.getName(),
+                        Math.toIntExact(expired.getPrice().getAmount()), stock, null));
+                continue;
+            }
+            products.set(normalIndex, products.get(normalIndex).withRestocked(stock));
+        }
+        return current.withProducts(products);
+    }
+
+    private static int findNormalRow(List<Product> products, String name) {
+        return IntStream.range(0, products.size())
+                .filter(index -> products.get(index).getName().equals(name) && !products.get(index).hasPromotion())
+                .findFirst()
+                .orElse(-1);
+    }
+
+    private static int drainPromotionStock(Product expired) {
+        while (true) {
+            int stock = expired.getPromotionalStock();
+            if (stock <= 0) {
+                return 0;
+            }
+            if (expired.tryDecreasePromotionStock(stock)) {
+                return stock;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
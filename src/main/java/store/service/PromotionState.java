@@ -0,0 +1,53 @@
+package store.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import store.model.Product;
+import store.model.Promotion;
+import store.model.PromotionAllocation;
+import store.model.PromotionCandidate;
+
+class PromotionState {
+    private final Product product;
+    private final Promotion promotion;
+    private final Promotion validPromotion;
+    private final List<PromotionCandidate> candidates;
+    private final int normalStock;
+    private final Map<Integer, PromotionAllocation> allocations = new HashMap<>();
+
+    PromotionState(Product product, Promotion promotion, Promotion validPromotion,
+                   List<PromotionCandidate> candidates, int normalStock) {
+        this.product = product;
+        this.promotion = promotion;
+        this.validPromotion = validPromotion;
+        this.candidates = candidates;
+        this.normalStock = normalStock;
+    }
+
+    Product getProduct() {
+        return product;
+    }
+
+    Optional<Promotion> getPromotion() {
+        return Optional.ofNullable(promotion);
+    }
+
+    Optional<Promotion> getValidPromotion() {
+        return Optional.ofNullable(validPromotion);
+    }
+
+    List<PromotionCandidate> getCandidates() {
+        return candidates;
+    }
+
+    int getNormalStock() {
+        return normalStock;
+    }
+
+    PromotionAllocation allocate(int quantity, IntFunction<PromotionAllocation> allocator) {
+        return allocations.computeIfAbsent(quantity, allocator::apply);
+    }
+}
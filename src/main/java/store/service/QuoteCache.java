@@ -0,0 +1,68 @@
+package store.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import store.model.Quote;
+
+public class QuoteCache {
+    private static final int DEFAULT_CAPACITY = 10_000;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final Map<CartFingerprint, Quote> quotes;
+    private long hits;
+    private long misses;
+
+    public QuoteCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public QuoteCache(int capacity) {
+        this.quotes = new LinkedHashMap<>(16, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CartFingerprint, Quote> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    Quote get(CartFingerprint fingerprint, Supplier<Quote> pricing) {
+        Quote cached = find(fingerprint);
+        if (cached != null) {
+            return cached;
+        }
+        Quote quote = pricing.get();
+        put(fingerprint, quote);
+        return quote;
+    }
+
+    private synchronized Quote find(CartFingerprint fingerprint) {
+        Quote quote = quotes.get(fingerprint);
+        if (quote == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return quote;
+    }
+
+    private synchronized void put(CartFingerprint fingerprint, Quote quote) {
+        quotes.put(fingerprint, quote);
+    }
+
+    public synchronized void invalidateAll() {
+        quotes.clear();
+    }
+
+    public synchronized int size() {
+        return quotes.size();
+    }
+
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    public synchronized long getMissCount() {
+        return misses;
+    }
+}
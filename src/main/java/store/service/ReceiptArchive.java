@@ -0,0 +1,367 @@
+package store.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import store.exception.ErrorCode;
+import store.model.ArchivedReceipt;
+
+public class ReceiptArchive implements AutoCloseable {
+    private static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+    private static final long DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+    private static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+    private static final int RECORD_HEADER_SIZE = Long.BYTES * 2 + Integer.BYTES;
+    private static final int BLOCK_HEADER_SIZE = Integer.BYTES * 2;
+    private static final int INDEX_ENTRY_SIZE = Long.BYTES * 5;
+    private static final String SEGMENT_PREFIX = "receipts-";
+    private static final String DATA_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final Path directory;
+    private final long segmentSize;
+    private final List<BlockIndex> blocks = new ArrayList<>();
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final ScheduledExecutorService flusher;
+    private ByteBuffer block;
+    private long nextReceiptNumber;
+    private long blockFirstNumber;
+    private long blockMinTime = Long.MAX_VALUE;
+    private long blockMaxTime = Long.MIN_VALUE;
+    private int segmentNumber;
+    private FileChannel dataChannel;
+    private FileChannel indexChannel;
+    private volatile IllegalStateException flushFailure;
+
+    private ReceiptArchive(Path directory, int blockSize, long segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.block = ByteBuffer.allocate(blockSize);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "receipt-archive-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static ReceiptArchive open(Path directory) {
+        return open(directory, DEFAULT_BLOCK_SIZE, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public static ReceiptArchive open(Path directory, int blockSize, long segmentSize) {
+        return open(directory, blockSize, segmentSize, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    public static ReceiptArchive open(Path directory, int blockSize, long segmentSize, Duration flushInterval) {
+        ReceiptArchive archive = new ReceiptArchive(directory, blockSize, segmentSize);
+        try {
+            Files.createDirectories(directory);
+            archive.loadIndexes();
+            archive.openSegment(archive.segmentNumber + 1);
+        } catch (IOException e) {
+            archive.flusher.shutdownNow();
+            throw new IllegalStateException(ErrorCode.FAILED_TO_ACCESS_RECEIPT_ARCHIVE.getMessage());
+        }
+        archive.flusher.scheduleWithFixedDelay(archive::flushInBackground, flushInterval.toMillis(), flushInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        return archive;
+    }
+
+    private void loadIndexes() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> indexFiles = files
+                    .filter(path -> path.getFileName().toString().endsWith(INDEX_SUFFIX))
+                    .sorted(Comparator.comparingInt(this::segmentNumberOf))
+                    .toList();
+            for (Path indexFile : indexFiles) {
+                loadIndex(segmentNumberOf(indexFile), indexFile);
+            }
+        }
+        nextReceiptNumber = blocks.isEmpty() ? 1 : blocks.get(blocks.size() - 1).lastNumber() + 1;
+    }
+
+    private void loadIndex(int segment, Path indexFile) throws IOException {
+        ByteBuffer entries = ByteBuffer.wrap(Files.readAllBytes(indexFile));
+        while (entries.remaining() >= INDEX_ENTRY_SIZE) {
+            blocks.add(new BlockIndex(segment, entries.getLong(), entries.getLong(), entries.getLong(),
+                    entries.getLong(), entries.getLong()));
+        }
+        segmentNumber = Math.max(segmentNumber, segment);
+    }
+
+    private int segmentNumberOf(Path path) {
+        String fileName = path.getFileName().toString();
+        return Integer.parseInt(fileName.substring(SEGMENT_PREFIX.length(), fileName.lastIndexOf('.')));
+    }
+
+    private void openSegment(int number) throws IOException {
+        closeChannels();
+        segmentNumber = number;
+        dataChannel = FileChannel.open(segmentPath(number, DATA_SUFFIX), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.READ);
+        dataChannel.position(dataChannel.size());
+        indexChannel = FileChannel.open(segmentPath(number, INDEX_SUFFIX), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private Path segmentPath(int number, String suffix) {
+        return directory.resolve(SEGMENT_PREFIX + number + suffix);
+    }
+
+    public synchronized long append(ByteBuffer receipt, LocalDateTime issuedAt) {
+        throwIfFlushFailed();
+        ByteBuffer content = receipt.duplicate();
+        ensureBlockCapacity(RECORD_HEADER_SIZE + content.remaining());
+        long receiptNumber = nextReceiptNumber++;
+        long time = toEpochMilli(issuedAt);
+        if (block.position() == 0) {
+            blockFirstNumber = receiptNumber;
+        }
+        blockMinTime = Math.min(blockMinTime, time);
+        blockMaxTime = Math.max(blockMaxTime, time);
+        block.putLong(receiptNumber).putLong(time).putInt(content.remaining()).put(content);
+        return receiptNumber;
+    }
+
+    private void ensureBlockCapacity(int recordSize) {
+        if (block.remaining() >= recordSize) {
+            return;
+        }
+        flush();
+        if (block.capacity() < recordSize) {
+            block = ByteBuffer.allocate(recordSize);
+        }
+    }
+
+    public synchronized void flush() {
+        if (block.position() == 0) {
+            return;
+        }
+        try {
+            writeBlock();
+            clearBlock();
+            if (dataChannel.size() >= segmentSize) {
+                openSegment(segmentNumber + 1);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(ErrorCode.FAILED_TO_ACCESS_RECEIPT_ARCHIVE.getMessage(), e);
+        }
+    }
+
+    private void clearBlock() {
+        block.clear();
+        blockMinTime = Long.MAX_VALUE;
+        blockMaxTime = Long.MIN_VALUE;
+    }
+
+    private void flushInBackground() {
+        try {
+            flush();
+        } catch (IllegalStateException e) {
+            flushFailure = e;
+        }
+    }
+
+    private void throwIfFlushFailed() {
+        IllegalStateException failure = flushFailure;
+        if (failure != null) {
+            flushFailure = null;
+            throw failure;
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        ByteBuffer raw = block.duplicate().flip();
+        ByteBuffer compressed = compress(raw);
+        long offset = dataChannel.position();
+        ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_SIZE)
+                .putInt(compressed.remaining())
+                .putInt(raw.limit())
+                .flip();
+        writeFully(dataChannel, header);
+        writeFully(dataChannel, compressed);
+        dataChannel.force(false);
+
+        BlockIndex index = new BlockIndex(segmentNumber, blockFirstNumber, nextReceiptNumber - 1,
+                blockMinTime, blockMaxTime, offset);
+        writeFully(indexChannel, index.toBuffer());
+        indexChannel.force(false);
+        blocks.add(index);
+    }
+
+    private ByteBuffer compress(ByteBuffer raw) {
+        deflater.reset();
+        deflater.setInput(raw.duplicate());
+        deflater.finish();
+        ByteBuffer compressed = ByteBuffer.allocate(raw.remaining() + raw.remaining() / 100 + 64);
+        while (!deflater.finished()) {
+            if (!compressed.hasRemaining()) {
+                compressed = ByteBuffer.allocate(compressed.capacity() * 2).put(compressed.flip());
+            }
+            deflater.deflate(compressed);
+        }
+        return compressed.flip();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    public synchronized Optional<ArchivedReceipt> find(long receiptNumber) {
+        Optional<ArchivedReceipt> pending = readRecords(block.duplicate().flip()).stream()
+                .filter(receipt -> receipt.receiptNumber() == receiptNumber)
+                .findFirst();
+        if (pending.isPresent()) {
+            return pending;
+        }
+        return findBlock(receiptNumber)
+                .map(this::readBlock)
+                .flatMap(receipts -> receipts.stream()
+                        .filter(receipt -> receipt.receiptNumber() == receiptNumber)
+                        .findFirst());
+    }
+
+    private Optional<BlockIndex> findBlock(long receiptNumber) {
+        int low = 0;
+        int high = blocks.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            BlockIndex candidate = blocks.get(middle);
+            if (receiptNumber < candidate.firstNumber()) {
+                high = middle - 1;
+            } else if (receiptNumber > candidate.lastNumber()) {
+                low = middle + 1;
+            } else {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public synchronized List<ArchivedReceipt> findBetween(LocalDateTime from, LocalDateTime to) {
+        long fromTime = toEpochMilli(from);
+        long toTime = toEpochMilli(to);
+        List<ArchivedReceipt> receipts = new ArrayList<>();
+        blocks.stream()
+                .filter(index -> index.maxTime() >= fromTime && index.minTime() <= toTime)
+                .map(this::readBlock)
+                .forEach(receipts::addAll);
+        receipts.addAll(readRecords(block.duplicate().flip()));
+        return receipts.stream()
+                .filter(receipt -> !receipt.issuedAt().isBefore(from) && !receipt.issuedAt().isAfter(to))
+                .toList();
+    }
+
+    private List<ArchivedReceipt> readBlock(BlockIndex index) {
+        try (FileChannel channel = FileChannel.open(segmentPath(index.segment(), DATA_SUFFIX),
+                StandardOpenOption.READ)) {
+            ByteBuffer header = readFully(channel, index.offset(), BLOCK_HEADER_SIZE);
+            int compressedLength = header.getInt();
+            int rawLength = header.getInt();
+            ByteBuffer compressed = readFully(channel, index.offset() + BLOCK_HEADER_SIZE, compressedLength);
+            return readRecords(decompress(compressed, rawLength));
+        } catch (IOException | DataFormatException e) {
+            throw new IllegalStateException(ErrorCode.FAILED_TO_ACCESS_RECEIPT_ARCHIVE.getMessage());
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException();
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static ByteBuffer decompress(ByteBuffer compressed, int rawLength) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteBuffer raw = ByteBuffer.allocate(rawLength);
+            while (raw.hasRemaining() && !inflater.finished()) {
+                inflater.inflate(raw);
+            }
+            return raw.flip();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static List<ArchivedReceipt> readRecords(ByteBuffer records) {
+        List<ArchivedReceipt> receipts = new ArrayList<>();
+        while (records.remaining() >= RECORD_HEADER_SIZE) {
+            long receiptNumber = records.getLong();
+            LocalDateTime issuedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(records.getLong()), ZoneOffset.UTC);
+            byte[] content = new byte[records.getInt()];
+            records.get(content);
+            receipts.add(new ArchivedReceipt(receiptNumber, issuedAt, content));
+        }
+        return receipts;
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private void closeChannels() throws IOException {
+        if (dataChannel != null) {
+            dataChannel.close();
+            indexChannel.close();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        flusher.shutdownNow();
+        try {
+            flush();
+            throwIfFlushFailed();
+        } finally {
+            closeResources();
+        }
+    }
+
+    private void closeResources() {
+        try {
+            closeChannels();
+        } catch (IOException e) {
+            throw new IllegalStateException(ErrorCode.FAILED_TO_ACCESS_RECEIPT_ARCHIVE.getMessage());
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private record BlockIndex(int segment, long firstNumber, long lastNumber, long minTime, long maxTime,
+                              long offset) {
+        private ByteBuffer toBuffer() {
+            return ByteBuffer.allocate(INDEX_ENTRY_SIZE)
+                    .putLong(firstNumber)
+                    .putLong(lastNumber)
+                    .putLong(minTime)
+                    .putLong(maxTime)
+                    .putLong(offset)
+                    .flip();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package store.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import store.exception.ErrorCode;
+import store.model.Order;
+import store.model.PromotionAllocation;
+import store.util.NameIndex;
+
+public class SalesAggregator {
+    private static final int DEFAULT_WINDOW_COUNT = 24;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long EMPTY_WINDOW = Long.MIN_VALUE;
+    private static final long SECONDS_PER_HOUR = 3600;
+    private static final String CSV_HEADER = "hour,type,name,quantity,amount";
+
+    private final NameIndex productIds = new NameIndex();
+    private final NameIndex promotionIds = new NameIndex();
+    private final long[] windowHours;
+    private final long[] membershipDiscounts;
+    private long[][] soldQuantities;
+    private long[][] salesAmounts;
+    private long[][] freeQuantities;
+    private long[][] giveawayAmounts;
+
+    public SalesAggregator() {
+        this(DEFAULT_WINDOW_COUNT);
+    }
+
+    public SalesAggregator(int windowCount) {
+        this.windowHours = new long[windowCount];
+        this.membershipDiscounts = new long[windowCount];
+        this.soldQuantities = new long[windowCount][INITIAL_CAPACITY];
+        this.salesAmounts = new long[windowCount][INITIAL_CAPACITY];
+        this.freeQuantities = new long[windowCount][INITIAL_CAPACITY];
+        this.giveawayAmounts = new long[windowCount][INITIAL_CAPACITY];
+        Arrays.fill(windowHours, EMPTY_WINDOW);
+    }
+
+    public synchronized void recordOrder(LocalDateTime committedAt, Order order) {
+        int window = windowOf(hourOf(committedAt));
+        if (window < 0) {
+            return;
+        }
+        int productId = productIds.idOf(order.getProduct().getName());
+        soldQuantities = ensureCapacity(soldQuantities, productId);
+        salesAmounts = ensureCapacity(salesAmounts, productId);
+
+        PromotionAllocation allocation = order.getAllocation();
+        long price = order.getProduct().getPrice().getAmount();
+        soldQuantities[window][productId] += allocation.getTotalQuantity();
+        salesAmounts[window][productId] += (long) (allocation.getTotalQuantity() - allocation.freeQuantity()) * price;
+        if (allocation.hasPromotion()) {
+            recordGiveaway(window, allocation.promotionName(), allocation.freeQuantity(), price);
+        }
+    }
+
+    private void recordGiveaway(int window, String promotionName, int freeQuantity, long price) {
+        int promotionId = promotionIds.idOf(promotionName);
+        freeQuantities = ensureCapacity(freeQuantities, promotionId);
+        giveawayAmounts = ensureCapacity(giveawayAmounts, promotionId);
+        freeQuantities[window][promotionId] += freeQuantity;
+        giveawayAmounts[window][promotionId] += freeQuantity * price;
+    }
+
+    public synchronized void recordMembershipDiscount(LocalDateTime committedAt, long discount) {
+        int window = windowOf(hourOf(committedAt));
+        if (window >= 0) {
+            membershipDiscounts[window] += discount;
+        }
+    }
+
+    private int windowOf(long hour) {
+        int window = (int) Math.floorMod(hour, (long) windowHours.length);
+        if (windowHours[window] > hour) {
+            return -1;
+        }
+        if (windowHours[window] != hour) {
+            resetWindow(window, hour);
+        }
+        return window;
+    }
+
+    private void resetWindow(int window, long hour) {
+        windowHours[window] = hour;
+        membershipDiscounts[window] = 0;
+        Arrays.fill(soldQuantities[window], 0);
+        Arrays.fill(salesAmounts[window], 0);
+        Arrays.fill(freeQuantities[window], 0);
+        Arrays.fill(giveawayAmounts[window], 0);
+    }
+
+    private static long[][] ensureCapacity(long[][] counters, int id) {
+        if (id < counters[0].length) {
+            return counters;
+        }
+        int capacity = Math.max(id + 1, counters[0].length * 2);
+        long[][] grown = new long[counters.length][];
+        for (int window = 0; window < counters.length; window++) {
+            grown[window] = Arrays.copyOf(counters[window], capacity);
+        }
+        return grown;
+    }
+
+    public synchronized long getSoldQuantity(LocalDateTime hour, String productName) {
+        return read(soldQuantities, hour, productIds, productName);
+    }
+
+    public synchronized long getSalesAmount(LocalDateTime hour, String productName) {
+        return read(salesAmounts, hour, productIds, productName);
+    }
+
+    public synchronized long getFreeQuantity(LocalDateTime hour, String promotionName) {
+        return read(freeQuantities, hour, promotionIds, promotionName);
+    }
+
+    public synchronized long getGiveawayAmount(LocalDateTime hour, String promotionName) {
+        return read(giveawayAmounts, hour, promotionIds, promotionName);
+    }
+
+    public synchronized long getMembershipDiscount(LocalDateTime hour) {
+        int window = findWindow(hourOf(hour));
+        if (window < 0) {
+            return 0;
+        }
+        return membershipDiscounts[window];
+    }
+
+    private long read(long[][] counters, LocalDateTime hour, NameIndex ids, String name) {
+        int window = findWindow(hourOf(hour));
+        int id = ids.find(name).orElse(-1);
+        if (window < 0 || id < 0 || id >= counters[window].length) {
+            return 0;
+        }
+        return counters[window][id];
+    }
+
+    private int findWindow(long hour) {
+        int window = (int) Math.floorMod(hour, (long) windowHours.length);
+        if (windowHours[window] != hour) {
+            return -1;
+        }
+        return window;
+    }
+
+    private static long hourOf(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_HOUR);
+    }
+
+    public synchronized void exportCsv(Path target) {
+        try (BufferedWriter writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+            for (int window : windowsInOrder()) {
+                writeWindow(writer, window);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(ErrorCode.FAILED_TO_EXPORT_SALES.getMessage());
+        }
+    }
+
+    private int[] windowsInOrder() {
+        return IntStream.range(0, windowHours.length)
+                .filter(window -> windowHours[window] != EMPTY_WINDOW)
+                .boxed()
+                .sorted((left, right) -> Long.compare(windowHours[left], windowHours[right]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private void writeWindow(BufferedWriter writer, int window) throws IOException {
+        String hour = LocalDateTime.ofEpochSecond(windowHours[window] * SECONDS_PER_HOUR, 0, ZoneOffset.UTC)
+                .toString();
+        for (int id = 0; id < productIds.size(); id++) {
+            writeRow(writer, hour, "product", productIds.nameOf(id),
+                    valueAt(soldQuantities, window, id), valueAt(salesAmounts, window, id));
+        }
+        for (int id = 0; id < promotionIds.size(); id++) {
+            writeRow(writer, hour, "promotion", promotionIds.nameOf(id),
+                    valueAt(freeQuantities, window, id), valueAt(giveawayAmounts, window, id));
+        }
+        writeRow(writer, hour, "membership", "", 0, membershipDiscounts[window]);
+    }
+
+    private static long valueAt(long[][] counters, int window, int id) {
+        if (id >= counters[window].length) {
+            return 0;
+        }
+        return counters[window][id];
+    }
+
+    private static void writeRow(BufferedWriter writer, String hour, String type, String name, long quantity,
+                                 long amount) throws IOException {
+        if (quantity == 0 && amount == 0) {
+            return;
+        }
+        writer.write(String.join(",", hour, type, name, String.valueOf(quantity), String.valueOf(amount)));
+        writer.newLine();
+    }
+}
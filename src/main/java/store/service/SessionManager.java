@@ -0,0 +1,87 @@
+package store.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import store.exception.ErrorCode;
+
+public class SessionManager {
+    private static final int DEFAULT_MAX_SESSIONS = 10_000;
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+
+    private final ConcurrentHashMap<String, CheckoutSession> sessions = new ConcurrentHashMap<>();
+    private final int maxSessions;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLong nextSweep;
+
+    public SessionManager() {
+        this(DEFAULT_MAX_SESSIONS, DEFAULT_IDLE_TIMEOUT, System::nanoTime);
+    }
+
+    public SessionManager(int maxSessions, Duration idleTimeout, LongSupplier nanoClock) {
+        this.maxSessions = maxSessions;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        this.nextSweep = new AtomicLong(nanoClock.getAsLong() + idleTimeoutNanos);
+    }
+
+    public CheckoutSession open(String sessionId) {
+        long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+        CheckoutSession session = Optional.ofNullable(sessions.get(sessionId))
+                .orElseGet(() -> create(sessionId));
+        session.touch(now);
+        return session;
+    }
+
+    private void sweepIfDue(long now) {
+        long due = nextSweep.get();
+        if (now - due >= 0 && nextSweep.compareAndSet(due, now + idleTimeoutNanos)) {
+            evictIdle();
+        }
+    }
+
+    private synchronized CheckoutSession create(String sessionId) {
+        CheckoutSession existing = sessions.get(sessionId);
+        if (existing != null) {
+            return existing;
+        }
+        if (sessions.size() >= maxSessions) {
+            evictIdle();
+        }
+        if (sessions.size() >= maxSessions) {
+            throw new IllegalArgumentException(ErrorCode.TOO_MANY_SESSIONS.getMessage());
+        }
+        CheckoutSession session = new CheckoutSession(sessionId, nanoClock.getAsLong());
+        sessions.put(sessionId, session);
+        return session;
+    }
+
+    public Optional<CheckoutSession> find(String sessionId) {
+        return Optional.ofNullable(sessions.get(sessionId));
+    }
+
+    public void close(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int before = sessions.size();
+        sessions.values().removeIf(session -> {
+            boolean idle = now - session.getLastAccessed() > idleTimeoutNanos;
+            if (idle) {
+                session.evict();
+            }
+            return idle;
+        });
+        return Math.max(0, before - sessions.size());
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+}
@@ -0,0 +1,55 @@
+package store.service;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class StockLockManager {
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final ReentrantLock[] stripes;
+
+    public StockLockManager() {
+        this(DEFAULT_STRIPES);
+    }
+
+    public StockLockManager(int stripeCount) {
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            stripes[stripe] = new ReentrantLock();
+        }
+    }
+
+    public StockLocks lockAll(Collection<String> productNames) {
+        int[] ordered = productNames.stream()
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .toArray();
+        int acquired = 0;
+        try {
+            for (; acquired < ordered.length; acquired++) {
+                stripes[ordered[acquired]].lock();
+            }
+        } catch (RuntimeException e) {
+            release(ordered, acquired);
+            throw e;
+        }
+        return () -> release(ordered, ordered.length);
+    }
+
+    int stripeOf(String productName) {
+        return Math.floorMod(productName.hashCode(), stripes.length);
+    }
+
+    private void release(int[] ordered, int acquired) {
+        for (int index = acquired - 1; index >= 0; index--) {
+            stripes[ordered[index]].unlock();
+        }
+    }
+
+    @FunctionalInterface
+    public interface StockLocks extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,51 @@
+package store.service;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import store.model.MembershipTier;
+import store.model.Money;
+
+public class TieredMembershipDiscountPolicy implements MembershipDiscountPolicy {
+    private static final long PERCENT = 100;
+
+    private final long[] minimumAmounts;
+    private final long[] rates;
+    private final long[] maxDiscounts;
+
+    private TieredMembershipDiscountPolicy(List<MembershipTier> tiers) {
+        this.minimumAmounts = tiers.stream().mapToLong(MembershipTier::minimumAmount).toArray();
+        this.rates = tiers.stream().mapToLong(MembershipTier::rate).toArray();
+        this.maxDiscounts = tiers.stream().mapToLong(MembershipTier::maxDiscount).toArray();
+    }
+
+    public static TieredMembershipDiscountPolicy of(List<MembershipTier> tiers) {
+        return new TieredMembershipDiscountPolicy(tiers.stream()
+                .sorted(Comparator.comparingLong(MembershipTier::minimumAmount))
+                .toList());
+    }
+
+    @Override
+    public long calculateDiscount(long eligibleAmount) {
+        int tier = findTier(eligibleAmount);
+        if (tier < 0) {
+            return 0;
+        }
+        return Math.min(percentOf(eligibleAmount, rates[tier]), maxDiscounts[tier]);
+    }
+
+    private int findTier(long eligibleAmount) {
+        if (eligibleAmount <= 0) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(minimumAmounts, eligibleAmount);
+        if (index >= 0) {
+            return index;
+        }
+        return -index - 2;
+    }
+
+    private static long percentOf(long amount, long rate) {
+        return Money.addExact(Money.multiplyExact(amount / PERCENT, rate), (amount % PERCENT) * rate / PERCENT);
+    }
+}
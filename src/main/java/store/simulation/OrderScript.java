@@ -0,0 +1,7 @@
+package store.simulation;
+
+import java.util.List;
+import store.model.OrderRequest;
+
+public record OrderScript(List<OrderRequest> lines, boolean acceptAdditionalItem, boolean useMembership) {
+}
@@ -0,0 +1,11 @@
+package store.simulation;
+
+public record ProductImpact(long soldQuantity, long freeQuantity, long stock) {
+    public long remainingStock() {
+        return stock - soldQuantity;
+    }
+
+    public boolean isDepleted() {
+        return remainingStock() <= 0;
+    }
+}
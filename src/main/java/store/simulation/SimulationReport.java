@@ -0,0 +1,42 @@
+package store.simulation;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+public record SimulationReport(
+        int completed,
+        int rejected,
+        int errors,
+        long oversoldUnits,
+        Duration elapsed,
+        long[] latencyNanos
+) {
+    public double getThroughput() {
+        return (completed + rejected) / Math.max(elapsed.toNanos() / 1e9, 1e-9);
+    }
+
+    public Duration percentile(double percentile) {
+        if (latencyNanos.length == 0) {
+            return Duration.ZERO;
+        }
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return Duration.ofNanos(sorted[Math.max(0, Math.min(index, sorted.length - 1))]);
+    }
+
+    public String format() {
+        return String.format(
+                "완료 %,d건, 거절 %,d건, 오류 %,d건, 초과 판매 %,d개%n"
+                        + "처리량 %,.1f건/초 (%,dms)%n"
+                        + "지연 p50 %s, p90 %s, p99 %s, 최대 %s",
+                completed, rejected, errors, oversoldUnits,
+                getThroughput(), elapsed.toMillis(),
+                formatLatency(percentile(50)), formatLatency(percentile(90)),
+                formatLatency(percentile(99)), formatLatency(percentile(100)));
+    }
+
+    private static String formatLatency(Duration latency) {
+        return String.format("%,dµs", latency.toNanos() / 1_000);
+    }
+}
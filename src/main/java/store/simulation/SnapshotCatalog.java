@@ -0,0 +1,48 @@
+package store.simulation;
+
+import java.util.List;
+import java.util.Optional;
+import store.model.MembershipTier;
+import store.model.Product;
+import store.model.Promotion;
+import store.util.FileReader;
+
+class SnapshotCatalog extends FileReader {
+    private final List<Product> products;
+    private final List<Promotion> promotions;
+    private final List<MembershipTier> membershipTiers;
+
+    SnapshotCatalog(List<Product> products, List<Promotion> promotions) {
+        this(products, promotions, null);
+    }
+
+    SnapshotCatalog(List<Product> products, List<Promotion> promotions, List<MembershipTier> membershipTiers) {
+        this.products = List.copyOf(products);
+        this.promotions = List.copyOf(promotions);
+        this.membershipTiers = membershipTiers;
+    }
+
+    @Override
+    public List<Product> getProducts() {
+        return products.stream()
+                .map(SnapshotCatalog::copyOf)
+                .toList();
+    }
+
+    private static Product copyOf(Product product) {
+        int stock = product.hasPromotion() ? product.getPromotionalStock() : product.getNormalStock();
+        return new Product(product.getName(), Math.toIntExact(product.getPrice().getAmount()), stock,
+                product.getPromotion());
+    }
+
+    @Override
+    public List<Promotion> getPromotions() {
+        return promotions;
+    }
+
+    @Override
+    public List<MembershipTier> getMembershipTiers() {
+        return Optional.ofNullable(membershipTiers)
+                .orElseGet(super::getMembershipTiers);
+    }
+}
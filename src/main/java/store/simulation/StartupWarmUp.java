@@ -0,0 +1,74 @@
+package store.simulation;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+import store.model.Catalog;
+import store.model.Money;
+import store.model.OrderRequest;
+import store.model.Product;
+import store.service.OrderService;
+import store.service.ProductService;
+import store.util.ByteBufferPool;
+import store.util.OrderParser;
+import store.view.ReceiptTemplate;
+
+public class StartupWarmUp {
+    private static final int RECEIPT_BUFFER_SIZE = 4096;
+    private static final int POOLED_RECEIPT_BUFFERS = 2;
+
+    private final ProductService productService;
+    private final ReceiptTemplate receiptTemplate = new ReceiptTemplate();
+    private final ByteBufferPool receiptBuffers = new ByteBufferPool(RECEIPT_BUFFER_SIZE, POOLED_RECEIPT_BUFFERS);
+
+    public StartupWarmUp(ProductService productService) {
+        this.productService = productService;
+    }
+
+    public int run(int rounds) {
+        Catalog snapshot = productService.getCatalog();
+        List<String> names = snapshot.getProducts().stream()
+                .map(Product::getName)
+                .distinct()
+                .toList();
+        SnapshotCatalog inputs = new SnapshotCatalog(snapshot.getProducts(), snapshot.getPromotions(),
+                productService.getMembershipTiers());
+        Set<String> shardedProducts = productService.getShardedProducts();
+        int completed = 0;
+        for (int round = 0; round < rounds; round++) {
+            ProductService scratch = new ProductService(inputs, productService.getClock());
+            scratch.enableShardedStock(shardedProducts);
+            OrderService orderService = new OrderService(scratch);
+            for (String name : names) {
+                completed += checkout(scratch, orderService, name, round % 2 == 0);
+            }
+        }
+        return completed;
+    }
+
+    private int checkout(ProductService scratch, OrderService orderService, String name, boolean useMembership) {
+        try {
+            for (OrderRequest request : OrderParser.parseOrders("[" + name + "-1]")) {
+                if (!scratch.checkStock(orderService.getCheckoutContext(), request.productName(), request.quantity())) {
+                    orderService.clearCart();
+                    return 0;
+                }
+                orderService.processOrder(request.productName(), request.quantity());
+            }
+            Money totalPrice = orderService.calculateTotalPrice();
+            Money promotionDiscount = orderService.calculatePromotionDiscount();
+            Money membershipDiscount = useMembership
+                    ? orderService.calculateMembershipDiscount(totalPrice, promotionDiscount)
+                    : Money.ZERO;
+            ByteBuffer receipt = receiptTemplate.render(orderService.getCart(), totalPrice, promotionDiscount,
+                    membershipDiscount, receiptBuffers);
+            receiptBuffers.release(receipt);
+            orderService.applyPendingOrders(membershipDiscount);
+            orderService.clearCart();
+            return 1;
+        } catch (IllegalArgumentException e) {
+            orderService.clearCart();
+            return 0;
+        }
+    }
+}
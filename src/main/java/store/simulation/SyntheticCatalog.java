@@ -0,0 +1,64 @@
+package store.simulation;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import store.model.Product;
+import store.model.Promotion;
+import store.model.PromotionType;
+import store.util.FileReader;
+import store.util.StoreClock;
+
+public class SyntheticCatalog extends FileReader {
+    private static final String NO_PROMOTION = "null";
+    private static final int PRICE_UNIT = 100;
+    private static final int MAX_PRICE_UNITS = 100;
+    private static final int MAX_STOCK = 200;
+    private static final double PROMOTION_RATE = 0.4;
+    private static final List<SyntheticPromotion> PROMOTIONS = List.of(
+            new SyntheticPromotion(PromotionType.BUY_2_GET_1.getName(), 2, 1),
+            new SyntheticPromotion(PromotionType.MD_RECOMMENDATION.getName(), 1, 1),
+            new SyntheticPromotion(PromotionType.FLASH_SALE.getName(), 1, 1));
+
+    private final int productCount;
+    private final long seed;
+    private final StoreClock clock;
+
+    public SyntheticCatalog(int productCount, long seed, StoreClock clock) {
+        this.productCount = productCount;
+        this.seed = seed;
+        this.clock = clock;
+    }
+
+    public static String productName(int index) {
+        return "상품" + index;
+    }
+
+    @Override
+    public List<Product> getProducts() {
+        Random random = new Random(seed);
+        List<Product> products = new ArrayList<>();
+        for (int index = 0; index < productCount; index++) {
+            String name = productName(index);
+            int price = (1 + random.nextInt(MAX_PRICE_UNITS)) * PRICE_UNIT;
+            if (random.nextDouble() < PROMOTION_RATE) {
+                String promotion = PROMOTIONS.get(random.nextInt(PROMOTIONS.size())).name();
+                products.add(new Product(name, price, 1 + random.nextInt(MAX_STOCK), promotion));
+            }
+            products.add(new Product(name, price, random.nextInt(MAX_STOCK), NO_PROMOTION));
+        }
+        return products;
+    }
+
+    @Override
+    public List<Promotion> getPromotions() {
+        LocalDateTime now = clock.now();
+        return PROMOTIONS.stream()
+                .map(promotion -> new Promotion(promotion.name(), promotion.buyQuantity(),
+                        promotion.freeQuantity(), now.minusYears(1), now.plusYears(1)))
+                .toList();
+    }
+
+    private record SyntheticPromotion(String name, int buyQuantity, int freeQuantity) {}
+}
@@ -0,0 +1,169 @@
+package store.simulation;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import store.exception.ErrorCode;
+import store.model.Cart;
+import store.model.Money;
+import store.model.OrderRequest;
+import store.model.Product;
+import store.service.CheckoutContext;
+import store.service.OrderService;
+import store.service.ProductService;
+import store.service.ProductService.OrderProcessingResult;
+import store.util.StoreClock;
+
+public class TrafficGenerator {
+    private static final LocalDateTime SIMULATION_START = LocalDateTime.of(2024, 6, 1, 10, 0);
+
+    private final TrafficProfile profile;
+    private final ProductService productService;
+    private final OrderService orderService;
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger rejected = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+    private final Map<String, LongAdder> soldQuantities = new ConcurrentHashMap<>();
+
+    public TrafficGenerator(TrafficProfile profile) {
+        this(profile, StoreClock.fixed(SIMULATION_START));
+    }
+
+    public TrafficGenerator(TrafficProfile profile, StoreClock clock) {
+        this.profile = profile;
+        this.productService = new ProductService(
+                new SyntheticCatalog(profile.productCount(), profile.seed(), clock), clock);
+        this.orderService = new OrderService(productService);
+    }
+
+    public ProductService getProductService() {
+        return productService;
+    }
+
+    public List<OrderScript> generateScripts() {
+        Random random = new Random(profile.seed() + 1);
+        List<OrderScript> scripts = new ArrayList<>(profile.orderCount());
+        for (int order = 0; order < profile.orderCount(); order++) {
+            scripts.add(generateScript(random));
+        }
+        return scripts;
+    }
+
+    private OrderScript generateScript(Random random) {
+        int lineCount = 1 + random.nextInt(profile.maxLinesPerOrder());
+        List<OrderRequest> lines = random.ints(0, profile.productCount())
+                .distinct()
+                .limit(Math.min(lineCount, profile.productCount()))
+                .mapToObj(index -> new OrderRequest(SyntheticCatalog.productName(index),
+                        1 + random.nextInt(profile.maxQuantity())))
+                .toList();
+        return new OrderScript(lines,
+                random.nextDouble() < profile.additionalItemAcceptRate(),
+                random.nextDouble() < profile.membershipRate());
+    }
+
+    public SimulationReport run() {
+        List<OrderScript> scripts = generateScripts();
+        Map<String, Integer> initialStock = totalStockByName();
+        long[] latencies = new long[scripts.size()];
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, profile.targetRate());
+        ExecutorService executor = Executors.newFixedThreadPool(profile.threads());
+        long start = System.nanoTime();
+        try {
+            for (int index = 0; index < scripts.size(); index++) {
+                long scheduledAt = start + index * intervalNanos;
+                awaitUntil(scheduledAt);
+                int slot = index;
+                executor.execute(() -> latencies[slot] = checkout(slot, scripts.get(slot), scheduledAt));
+            }
+        } finally {
+            awaitTermination(executor);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return new SimulationReport(completed.get(), rejected.get(), errors.get(),
+                countOversoldUnits(initialStock), elapsed, latencies);
+    }
+
+    private static void awaitUntil(long deadline) {
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static void awaitTermination(ExecutorService executor) {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.HOURS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private long checkout(int index, OrderScript script, long scheduledAt) {
+        OrderService session = orderService.forSession("simulation-" + index);
+        try {
+            script.lines().forEach(line -> addLine(session, line, script.acceptAdditionalItem()));
+            commit(session, script.useMembership());
+            completed.incrementAndGet();
+        } catch (IllegalArgumentException e) {
+            rejected.incrementAndGet();
+        } catch (RuntimeException e) {
+            errors.incrementAndGet();
+        } finally {
+            session.closeSession();
+        }
+        return System.nanoTime() - scheduledAt;
+    }
+
+    private void addLine(OrderService session, OrderRequest line, boolean acceptAdditionalItem) {
+        CheckoutContext context = session.getCheckoutContext();
+        String name = line.productName();
+        if (!productService.checkStock(context, name, line.quantity())) {
+            throw new IllegalArgumentException(ErrorCode.INVENTORY_QUANTITY_EXCEEDED.getMessage());
+        }
+        OrderProcessingResult result = productService.processOrder(context, name, line.quantity());
+        if (acceptAdditionalItem && productService.isMDRecommendationPromotion(context, name)) {
+            result = productService.processOrder(context, name,
+                    line.quantity() + productService.getPromotionalFreeQuantity(context, name));
+        }
+        session.processOrder(name, result.getTotalQuantity());
+    }
+
+    private void commit(OrderService session, boolean useMembership) {
+        Money totalPrice = session.calculateTotalPrice();
+        Money promotionDiscount = session.calculatePromotionDiscount();
+        Money membershipDiscount = Money.ZERO;
+        if (useMembership) {
+            membershipDiscount = session.calculateMembershipDiscount(totalPrice, promotionDiscount);
+        }
+        Cart cart = session.getCart();
+        session.applyPendingOrders(membershipDiscount);
+        IntStream.range(0, cart.size())
+                .forEach(index -> soldQuantities
+                        .computeIfAbsent(cart.getProduct(index).getName(), name -> new LongAdder())
+                        .add(cart.getAllocation(index).getTotalQuantity()));
+    }
+
+    private Map<String, Integer> totalStockByName() {
+        return productService.getProducts().stream()
+                .collect(Collectors.groupingBy(Product::getName, Collectors.summingInt(Product::getTotalStock)));
+    }
+
+    private long countOversoldUnits(Map<String, Integer> initialStock) {
+        return soldQuantities.entrySet().stream()
+                .mapToLong(entry -> Math.max(0, entry.getValue().sum() - initialStock.getOrDefault(entry.getKey(), 0)))
+                .sum();
+    }
+}
@@ -0,0 +1,37 @@
+package store.simulation;
+
+public record TrafficProfile(
+        long seed,
+        int productCount,
+        int orderCount,
+        int targetRate,
+        int threads,
+        int maxLinesPerOrder,
+        int maxQuantity,
+        double additionalItemAcceptRate,
+        double membershipRate
+) {
+    public static TrafficProfile defaults(long seed) {
+        return new TrafficProfile(seed, 50, 10_000, 2_000, 4, 4, 5, 0.7, 0.5);
+    }
+
+    public TrafficProfile withOrderCount(int orderCount) {
+        return new TrafficProfile(seed, productCount, orderCount, targetRate, threads, maxLinesPerOrder, maxQuantity,
+                additionalItemAcceptRate, membershipRate);
+    }
+
+    public TrafficProfile withTargetRate(int targetRate) {
+        return new TrafficProfile(seed, productCount, orderCount, targetRate, threads, maxLinesPerOrder, maxQuantity,
+                additionalItemAcceptRate, membershipRate);
+    }
+
+    public TrafficProfile withThreads(int threads) {
+        return new TrafficProfile(seed, productCount, orderCount, targetRate, threads, maxLinesPerOrder, maxQuantity,
+                additionalItemAcceptRate, membershipRate);
+    }
+
+    public TrafficProfile withProductCount(int productCount) {
+        return new TrafficProfile(seed, productCount, orderCount, targetRate, threads, maxLinesPerOrder, maxQuantity,
+                additionalItemAcceptRate, membershipRate);
+    }
+}
@@ -0,0 +1,21 @@
+package store.simulation;
+
+import java.util.List;
+import java.util.Optional;
+
+public class TrafficSimulation {
+    public static void main(String[] args) {
+        TrafficProfile profile = TrafficProfile.defaults(Long.getLong("seed", 7L))
+                .withProductCount(Integer.getInteger("products", 50))
+                .withOrderCount(Integer.getInteger("orders", 10_000))
+                .withTargetRate(Integer.getInteger("rate", 2_000))
+                .withThreads(Integer.getInteger("threads", 4));
+
+        TrafficGenerator generator = new TrafficGenerator(profile);
+        Optional.ofNullable(System.getProperty("hot"))
+                .map(names -> List.of(names.split(",")))
+                .ifPresent(generator.getProductService()::enableShardedStock);
+        SimulationReport report = generator.run();
+        System.out.println(report.format());
+    }
+}
@@ -0,0 +1,45 @@
+package store.simulation;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+import store.model.Money;
+
+public record WhatIfReport(
+        int repricedCarts,
+        int rejectedCarts,
+        Money revenue,
+        Money promotionDiscount,
+        Money membershipDiscount,
+        Map<String, ProductImpact> products,
+        Duration elapsed
+) {
+    public Money getNetRevenue() {
+        return revenue.minus(promotionDiscount).minus(membershipDiscount);
+    }
+
+    public long getFreeItems() {
+        return products.values().stream()
+                .mapToLong(ProductImpact::freeQuantity)
+                .sum();
+    }
+
+    public String format() {
+        return String.format(
+                "재계산 %,d건, 거절 %,d건 (%,dms)%n"
+                        + "총구매액 %s, 행사할인 %s, 멤버십할인 %s, 순매출 %s, 증정 %,d개%n"
+                        + "%s",
+                repricedCarts, rejectedCarts, elapsed.toMillis(),
+                revenue, promotionDiscount, membershipDiscount, getNetRevenue(), getFreeItems(),
+                formatProducts());
+    }
+
+    private String formatProducts() {
+        return products.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> String.format("- %s 판매 %,d개, 증정 %,d개, 남은 재고 %,d개",
+                        entry.getKey(), entry.getValue().soldQuantity(), entry.getValue().freeQuantity(),
+                        entry.getValue().remainingStock()))
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
@@ -0,0 +1,29 @@
+package store.simulation;
+
+import java.nio.file.Path;
+import java.util.List;
+import store.model.Promotion;
+import store.util.FileReader;
+
+public class WhatIfSimulation {
+    private static final String DEFAULT_PROMOTIONS = "src/main/resources/promotions.md";
+
+    public static void main(String[] args) {
+        TrafficProfile profile = TrafficProfile.defaults(Long.getLong("seed", 7L))
+                .withProductCount(Integer.getInteger("products", 50))
+                .withOrderCount(Integer.getInteger("orders", 200_000));
+        TrafficGenerator generator = new TrafficGenerator(profile);
+        List<OrderScript> carts = generator.generateScripts();
+        List<Promotion> candidate = new FileReader()
+                .readPromotions(Path.of(System.getProperty("promotions", DEFAULT_PROMOTIONS)));
+
+        WhatIfSimulator baseline = new WhatIfSimulator(generator.getProductService().getCatalog(),
+                generator.getProductService().getCatalog().getPromotions());
+        WhatIfSimulator whatIf = new WhatIfSimulator(generator.getProductService().getCatalog(), candidate);
+        System.out.println("[현재 프로모션]");
+        System.out.println(baseline.run(carts).format());
+        System.out.println();
+        System.out.println("[후보 프로모션]");
+        System.out.println(whatIf.run(carts).format());
+    }
+}
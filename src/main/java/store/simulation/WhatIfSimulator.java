@@ -0,0 +1,60 @@
+package store.simulation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import store.exception.ErrorCode;
+import store.model.Catalog;
+import store.model.OrderRequest;
+import store.model.PricedCart;
+import store.model.Product;
+import store.model.Promotion;
+import store.service.CheckoutContext;
+import store.service.OrderService;
+import store.service.ProductService;
+
+public class WhatIfSimulator {
+    private final SnapshotCatalog scratchCatalog;
+
+    public WhatIfSimulator(Catalog snapshot, List<Promotion> candidatePromotions) {
+        this.scratchCatalog = new SnapshotCatalog(snapshot.getProducts(), candidatePromotions);
+    }
+
+    public WhatIfReport run(List<OrderScript> carts) {
+        long start = System.nanoTime();
+        ProductService pricing = new ProductService(scratchCatalog);
+        OrderService orders = new OrderService(pricing);
+        Map<String, Integer> initialStock = pricing.getProducts().stream()
+                .collect(Collectors.groupingBy(Product::getName, Collectors.summingInt(Product::getTotalStock)));
+        WhatIfTotals totals = new WhatIfTotals();
+        carts.forEach(cart -> checkout(pricing, orders, totals, cart));
+        return totals.toReport(initialStock, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void checkout(ProductService pricing, OrderService orders, WhatIfTotals totals, OrderScript cart) {
+        CheckoutContext context = pricing.openCheckout();
+        try {
+            List<OrderRequest> lines = cart.lines().stream()
+                    .map(line -> answerAdditionalItem(pricing, context, line, cart.acceptAdditionalItem()))
+                    .toList();
+            PricedCart pricedCart = orders.price(context, lines, cart.useMembership());
+            pricing.commitOrders(pricedCart.cart().getOrders());
+            totals.addCart(pricedCart);
+        } catch (IllegalArgumentException e) {
+            totals.rejectCart();
+        }
+    }
+
+    private OrderRequest answerAdditionalItem(ProductService pricing, CheckoutContext context, OrderRequest line,
+                                              boolean acceptAdditionalItem) {
+        String name = line.productName();
+        if (!pricing.checkStock(context, name, line.quantity())) {
+            throw new IllegalArgumentException(ErrorCode.INVENTORY_QUANTITY_EXCEEDED.getMessage());
+        }
+        if (acceptAdditionalItem && pricing.isMDRecommendationPromotion(context, name)) {
+            return new OrderRequest(name, line.quantity() + pricing.getPromotionalFreeQuantity(context, name));
+        }
+        return line;
+    }
+}
@@ -0,0 +1,52 @@
+package store.simulation;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+import store.model.Cart;
+import store.model.Money;
+import store.model.PricedCart;
+import store.model.Quote;
+
+class WhatIfTotals {
+    private static final int SOLD = 0;
+    private static final int FREE = 1;
+
+    private final Map<String, long[]> quantities = new HashMap<>();
+    private int repricedCarts;
+    private int rejectedCarts;
+    private long revenue;
+    private long promotionDiscount;
+    private long membershipDiscount;
+
+    void addCart(PricedCart pricedCart) {
+        Cart cart = pricedCart.cart();
+        for (int index = 0; index < cart.size(); index++) {
+            long[] counters = quantities.computeIfAbsent(cart.getProduct(index).getName(), name -> new long[2]);
+            counters[SOLD] += cart.getAllocation(index).getTotalQuantity();
+            counters[FREE] += cart.getAllocation(index).freeQuantity();
+        }
+        Quote quote = pricedCart.quote();
+        revenue = Math.addExact(revenue, quote.totalPrice().getAmount());
+        promotionDiscount = Math.addExact(promotionDiscount, quote.promotionDiscount().getAmount());
+        membershipDiscount = Math.addExact(membershipDiscount, quote.membershipDiscount().getAmount());
+        repricedCarts++;
+    }
+
+    void rejectCart() {
+        rejectedCarts++;
+    }
+
+    WhatIfReport toReport(Map<String, Integer> initialStock, Duration elapsed) {
+        Map<String, ProductImpact> products = initialStock.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> impactOf(entry.getKey(), entry.getValue())));
+        return new WhatIfReport(repricedCarts, rejectedCarts, Money.of(revenue), Money.of(promotionDiscount),
+                Money.of(membershipDiscount), products, elapsed);
+    }
+
+    private ProductImpact impactOf(String productName, int stock) {
+        long[] counters = quantities.getOrDefault(productName, new long[2]);
+        return new ProductImpact(counters[SOLD], counters[FREE], stock);
+    }
+}
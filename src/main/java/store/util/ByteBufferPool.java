@@ -0,0 +1,30 @@
+package store.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+public class ByteBufferPool {
+    private final int bufferSize;
+    private final int maxPooledBuffers;
+    private final Deque<ByteBuffer> buffers = new ArrayDeque<>();
+
+    public ByteBufferPool(int bufferSize, int maxPooledBuffers) {
+        this.bufferSize = bufferSize;
+        this.maxPooledBuffers = maxPooledBuffers;
+    }
+
+    public synchronized ByteBuffer acquire(int minimumCapacity) {
+        ByteBuffer buffer = buffers.pollFirst();
+        if (buffer == null || buffer.capacity() < minimumCapacity) {
+            buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, minimumCapacity));
+        }
+        return buffer.clear();
+    }
+
+    public synchronized void release(ByteBuffer buffer) {
+        if (buffers.size() < maxPooledBuffers) {
+            buffers.addFirst(buffer.clear());
+        }
+    }
+}
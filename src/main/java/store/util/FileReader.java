@@ -2,22 +2,55 @@ package store.util;
 
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import store.exception.ErrorCode;
+import store.model.MembershipTier;
 import store.model.Product;
 import store.model.Promotion;
 
 public class FileReader {
     private static final String PRODUCTS_PATH = "src/main/resources/products.md";
     private static final String PROMOTIONS_PATH = "src/main/resources/promotions.md";
+    private static final String MEMBERSHIP_PATH = "src/main/resources/membership.md";
+
+    private final Path productsPath;
+    private final Path promotionsPath;
+    private final Path membershipPath;
+
+    public FileReader() {
+        this(Paths.get(PRODUCTS_PATH), Paths.get(PROMOTIONS_PATH));
+    }
+
+    public FileReader(Path productsPath, Path promotionsPath) {
+        this(productsPath, promotionsPath, Paths.get(MEMBERSHIP_PATH));
+    }
+
+    public FileReader(Path productsPath, Path promotionsPath, Path membershipPath) {
+        this.productsPath = productsPath;
+        this.promotionsPath = promotionsPath;
+        this.membershipPath = membershipPath;
+    }
+
+    public Path getProductsPath() {
+        return productsPath;
+    }
+
+    public Path getPromotionsPath() {
+        return promotionsPath;
+    }
 
     public List<Product> getProducts() {
+        return readProducts(productsPath);
+    }
+
+    public List<Product> readProducts(Path path) {
         try {
-            List<String> lines = Files.readAllLines(Paths.get(PRODUCTS_PATH));
+            List<String> lines = Files.readAllLines(path);
             return parseProducts(lines);
         } catch (IOException e) {
             throw new IllegalStateException(ErrorCode.FAILED_TO_READ_PRODUCT.getMessage());
@@ -25,14 +58,27 @@ public class FileReader {
     }
 
     public List<Promotion> getPromotions() {
+        return readPromotions(promotionsPath);
+    }
+
+    public List<Promotion> readPromotions(Path path) {
         try {
-            List<String> lines = Files.readAllLines(Paths.get(PROMOTIONS_PATH));
+            List<String> lines = Files.readAllLines(path);
             return parsePromotions(lines);
         } catch (IOException e) {
             throw new IllegalStateException(ErrorCode.FAILED_TO_READ_PRODUCT.getMessage());
         }
     }
 
+    public List<MembershipTier> getMembershipTiers() {
+        try {
+            List<String> lines = Files.readAllLines(membershipPath);
+            return parseMembershipTiers(lines);
+        } catch (IOException e) {
+            throw new IllegalStateException(ErrorCode.FAILED_TO_READ_PRODUCT.getMessage());
+        }
+    }
+
     private List<Product> parseProducts(List<String> lines) {
         List<Product> products = new ArrayList<>();
         for (int i = 1; i < lines.size(); i++) {
@@ -70,6 +116,23 @@ public class FileReader {
         );
     }
 
+    private List<MembershipTier> parseMembershipTiers(List<String> lines) {
+        List<MembershipTier> tiers = new ArrayList<>();
+        for (int i = 1; i < lines.size(); i++) {
+            tiers.add(createMembershipTier(lines.get(i)));
+        }
+        return tiers;
+    }
+
+    private MembershipTier createMembershipTier(String line) {
+        String[] parts = line.split(",");
+        return new MembershipTier(
+                Long.parseLong(parts[0]),
+                Integer.parseInt(parts[1]),
+                Long.parseLong(parts[2])
+        );
+    }
+
     private LocalDateTime parseDateTime(String date) {
         return LocalDateTime.parse(date + "T00:00:00");
     }
@@ -0,0 +1,37 @@
+package store.util;
+
+public final class Jamo {
+    private static final char FIRST_SYLLABLE = '\uAC00';
+    private static final char LAST_SYLLABLE = '\uD7A3';
+    private static final char INITIAL_BASE = '\u1100';
+    private static final char MEDIAL_BASE = '\u1161';
+    private static final char FINAL_BASE = '\u11A7';
+    private static final int MEDIAL_COUNT = 21;
+    private static final int FINAL_COUNT = 28;
+    private static final int SYLLABLES_PER_INITIAL = MEDIAL_COUNT * FINAL_COUNT;
+
+    private Jamo() {
+    }
+
+    public static String decompose(CharSequence text) {
+        StringBuilder jamo = new StringBuilder(text.length() * 3);
+        for (int index = 0; index < text.length(); index++) {
+            appendJamo(jamo, text.charAt(index));
+        }
+        return jamo.toString();
+    }
+
+    private static void appendJamo(StringBuilder jamo, char character) {
+        if (character < FIRST_SYLLABLE || character > LAST_SYLLABLE) {
+            jamo.append(Character.toLowerCase(character));
+            return;
+        }
+        int syllable = character - FIRST_SYLLABLE;
+        jamo.append((char) (INITIAL_BASE + syllable / SYLLABLES_PER_INITIAL));
+        jamo.append((char) (MEDIAL_BASE + syllable % SYLLABLES_PER_INITIAL / FINAL_COUNT));
+        int finalConsonant = syllable % FINAL_COUNT;
+        if (finalConsonant > 0) {
+            jamo.append((char) (FINAL_BASE + finalConsonant));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package store.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+public class NameIndex {
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    public synchronized int idOf(String name) {
+        return ids.computeIfAbsent(name, key -> {
+            names.add(key);
+            return names.size() - 1;
+        });
+    }
+
+    public synchronized OptionalInt find(String name) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(id);
+    }
+
+    public synchronized String nameOf(int id) {
+        return names.get(id);
+    }
+
+    public synchronized int size() {
+        return names.size();
+    }
+}
@@ -0,0 +1,139 @@
+package store.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class NameSearchIndex {
+    private static final char BOUNDARY = '^';
+    private static final int GRAM_SIZE = 2;
+    private static final int JAMO_PER_TYPO = 3;
+    private static final int[] NO_NAMES = new int[0];
+
+    private final String[] names;
+    private final String[] keys;
+    private final Map<String, int[]> postings;
+
+    private NameSearchIndex(String[] names, String[] keys, Map<String, int[]> postings) {
+        this.names = names;
+        this.keys = keys;
+        this.postings = postings;
+    }
+
+    public static NameSearchIndex of(Collection<String> names) {
+        String[] distinctNames = names.stream()
+                .distinct()
+                .sorted()
+                .toArray(String[]::new);
+        String[] keys = Arrays.stream(distinctNames)
+                .map(Jamo::decompose)
+                .toArray(String[]::new);
+        return new NameSearchIndex(distinctNames, keys, buildPostings(keys));
+    }
+
+    private static Map<String, int[]> buildPostings(String[] keys) {
+        Map<String, List<Integer>> ids = new HashMap<>();
+        for (int id = 0; id < keys.length; id++) {
+            for (String gram : gramsOf(keys[id])) {
+                ids.computeIfAbsent(gram, key -> new ArrayList<>()).add(id);
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>();
+        ids.forEach((gram, list) -> postings.put(gram, list.stream().mapToInt(Integer::intValue).toArray()));
+        return postings;
+    }
+
+    private static Set<String> gramsOf(String key) {
+        String padded = BOUNDARY + key;
+        Set<String> grams = new LinkedHashSet<>();
+        for (int start = 0; start + GRAM_SIZE <= padded.length(); start++) {
+            grams.add(padded.substring(start, start + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public List<String> suggest(String query, int limit) {
+        String key = Jamo.decompose(query.strip());
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        int maxDistance = Math.max(1, key.length() / JAMO_PER_TYPO);
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (int id : candidatesOf(key)) {
+            addIfClose(suggestions, id, key, maxDistance);
+        }
+        return suggestions.stream()
+                .sorted(Comparator.comparingInt(Suggestion::distance)
+                        .thenComparingInt(Suggestion::lengthGap)
+                        .thenComparing(suggestion -> names[suggestion.id()]))
+                .limit(limit)
+                .map(suggestion -> names[suggestion.id()])
+                .toList();
+    }
+
+    private Set<Integer> candidatesOf(String key) {
+        Set<Integer> candidates = new HashSet<>();
+        for (String gram : gramsOf(key)) {
+            for (int id : postings.getOrDefault(gram, NO_NAMES)) {
+                candidates.add(id);
+            }
+        }
+        return candidates;
+    }
+
+    private void addIfClose(List<Suggestion> suggestions, int id, String key, int maxDistance) {
+        String candidate = keys[id];
+        int lengthGap = Math.abs(candidate.length() - key.length());
+        if (candidate.startsWith(key)) {
+            suggestions.add(new Suggestion(id, 0, lengthGap));
+            return;
+        }
+        int distance = editDistance(key, candidate, maxDistance);
+        if (distance <= maxDistance) {
+            suggestions.add(new Suggestion(id, distance, lengthGap));
+        }
+    }
+
+    private static int editDistance(String source, String target, int maxDistance) {
+        if (Math.abs(source.length() - target.length()) > maxDistance) {
+            return maxDistance + 1;
+        }
+        int[] previous = new int[target.length() + 1];
+        int[] current = new int[target.length() + 1];
+        for (int column = 0; column <= target.length(); column++) {
+            previous[column] = column;
+        }
+        for (int row = 1; row <= source.length(); row++) {
+            current[0] = row;
+            int rowMinimum = row;
+            for (int column = 1; column <= target.length(); column++) {
+                int substitution = previous[column - 1];
+                if (source.charAt(row - 1) != target.charAt(column - 1)) {
+                    substitution++;
+                }
+                current[column] = Math.min(substitution, Math.min(previous[column], current[column - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[column]);
+            }
+            if (rowMinimum > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[target.length()];
+    }
+
+    private record Suggestion(int id, int distance, int lengthGap) {}
+}
@@ -0,0 +1,85 @@
+package store.util;
+
+import camp.nextstep.edu.missionutils.DateTimes;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.LongSupplier;
+import store.exception.ErrorCode;
+
+@FunctionalInterface
+public interface StoreClock {
+    String SYSTEM = "system";
+    String FIXED_PREFIX = "fixed:";
+    String REPLAY_PREFIX = "replay:";
+    String SPEED_DELIMITER = "@";
+
+    LocalDateTime now();
+
+    default Duration toWallDuration(Duration virtualDuration) {
+        return virtualDuration;
+    }
+
+    default boolean isFixed() {
+        return false;
+    }
+
+    static StoreClock system() {
+        return DateTimes::now;
+    }
+
+    static StoreClock fixed(LocalDateTime instant) {
+        return new StoreClock() {
+            @Override
+            public LocalDateTime now() {
+                return instant;
+            }
+
+            @Override
+            public boolean isFixed() {
+                return true;
+            }
+        };
+    }
+
+    static StoreClock replay(LocalDateTime start, double speed) {
+        return replay(start, speed, System::nanoTime);
+    }
+
+    static StoreClock replay(LocalDateTime start, double speed, LongSupplier nanoClock) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException(ErrorCode.INVALID_CLOCK.getMessage());
+        }
+        long origin = nanoClock.getAsLong();
+        return new StoreClock() {
+            @Override
+            public LocalDateTime now() {
+                return start.plusNanos((long) ((nanoClock.getAsLong() - origin) * speed));
+            }
+
+            @Override
+            public Duration toWallDuration(Duration virtualDuration) {
+                return Duration.ofNanos((long) (virtualDuration.toNanos() / speed));
+            }
+        };
+    }
+
+    static StoreClock parse(String spec) {
+        try {
+            if (spec.equals(SYSTEM)) {
+                return system();
+            }
+            if (spec.startsWith(FIXED_PREFIX)) {
+                return fixed(LocalDateTime.parse(spec.substring(FIXED_PREFIX.length())));
+            }
+            if (spec.startsWith(REPLAY_PREFIX)) {
+                String[] parts = spec.substring(REPLAY_PREFIX.length()).split(SPEED_DELIMITER, 2);
+                double speed = parts.length == 2 ? Double.parseDouble(parts[1]) : 1;
+                return replay(LocalDateTime.parse(parts[0]), speed);
+            }
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException(ErrorCode.INVALID_CLOCK.getMessage(), e);
+        }
+        throw new IllegalArgumentException(ErrorCode.INVALID_CLOCK.getMessage());
+    }
+}
@@ -8,6 +8,7 @@ public class InputView {
     private static final String MEMBERSHIP_PROMPT = "\n멤버십 할인을 받으시겠습니까? (Y/N)";
     private static final String CONTINUE_PROMPT = "감사합니다. 구매하고 싶은 다른 상품이 있나요? (Y/N)";  // 개행 제거
     private static final String PROMOTION_NOTICE = "\n현재 %s %d개는 프로모션 할인이 적용되지 않습니다. 그래도 구매하시겠습니까? (Y/N)";
+    private static final String SUGGESTION_NOTICE = "\n%s은(는) 없는 상품입니다. %s을(를) 구매하시겠습니까? (Y/N)";
     private static final String FREE_ITEM_NOTICE = "\n현재 %s은(는) 1개를 무료로 더 받을 수 있습니다. 추가하시겠습니까? (Y/N)";
 
     public String readFirstOrder() {
@@ -30,6 +31,10 @@ public class InputView {
         return readFormattedInput(FREE_ITEM_NOTICE, productName);
     }
 
+    public String readSuggestion(String productName, String suggestion) {
+        return readFormattedInput(SUGGESTION_NOTICE, productName, suggestion);
+    }
+
     private String readInput(String prompt) {
         System.out.println(prompt);
         return Console.readLine();
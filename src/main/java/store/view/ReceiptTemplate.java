@@ -0,0 +1,207 @@
+package store.view;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import store.model.Cart;
+import store.model.Money;
+import store.util.ByteBufferPool;
+
+public class ReceiptTemplate {
+    private static final int NAME_COLUMN = 20;
+    private static final int QUANTITY_COLUMN = 9;
+    private static final byte NEW_LINE = '\n';
+    private static final byte SPACE = ' ';
+    private static final byte MINUS = '-';
+    private static final byte COMMA = ',';
+
+    private static final byte[] HEADER = compileLine("\n==============W 편의점================");
+    private static final byte[] COLUMN_TITLES = concat(
+            compileCell("상품명", NAME_COLUMN), compileCell("수량", QUANTITY_COLUMN), compileLine("금액"));
+    private static final byte[] GIFT_DIVIDER = compileLine("=============증      정===============");
+    private static final byte[] FOOTER = compileLine("====================================");
+    private static final byte[] TOTAL_LABEL = compileCell("총구매액", NAME_COLUMN);
+    private static final byte[] PROMOTION_DISCOUNT_LABEL = compileCell("행사할인", NAME_COLUMN + QUANTITY_COLUMN);
+    private static final byte[] MEMBERSHIP_DISCOUNT_LABEL = compileCell("멤버십할인", NAME_COLUMN + QUANTITY_COLUMN);
+    private static final byte[] FINAL_PRICE_LABEL = compileCell("내실돈", NAME_COLUMN + QUANTITY_COLUMN);
+
+    private final Map<String, byte[]> nameCells = new ConcurrentHashMap<>();
+
+    public ByteBuffer render(Cart cart, Money totalPrice, Money promotionDiscount, Money membershipDiscount,
+                             ByteBufferPool pool) {
+        ByteBuffer buffer = pool.acquire(0);
+        while (true) {
+            try {
+                writeReceipt(buffer, cart, totalPrice, promotionDiscount, membershipDiscount);
+                return buffer.flip();
+            } catch (BufferOverflowException e) {
+                int capacity = buffer.capacity() * 2;
+                pool.release(buffer);
+                buffer = pool.acquire(capacity);
+            }
+        }
+    }
+
+    private void writeReceipt(ByteBuffer buffer, Cart cart, Money totalPrice, Money promotionDiscount,
+                              Money membershipDiscount) {
+        buffer.put(HEADER).put(COLUMN_TITLES);
+        for (int index = 0; index < cart.size(); index++) {
+            writeOrderLine(buffer, cart, index);
+        }
+        buffer.put(GIFT_DIVIDER);
+        for (int index = 0; index < cart.size(); index++) {
+            writeGiftLine(buffer, cart, index);
+        }
+        buffer.put(FOOTER);
+        buffer.put(TOTAL_LABEL);
+        writeQuantityCell(buffer, cart.getTotalQuantity());
+        writeAmountLine(buffer, totalPrice);
+        buffer.put(PROMOTION_DISCOUNT_LABEL);
+        writeAmountLine(buffer, promotionDiscount.negate());
+        buffer.put(MEMBERSHIP_DISCOUNT_LABEL);
+        writeAmountLine(buffer, membershipDiscount.negate());
+        buffer.put(FINAL_PRICE_LABEL);
+        writeAmountLine(buffer, totalPrice.minus(promotionDiscount).minus(membershipDiscount));
+        buffer.put(NEW_LINE);
+    }
+
+    private void writeOrderLine(ByteBuffer buffer, Cart cart, int index) {
+        buffer.put(nameCell(cart.getProduct(index).getName()));
+        writeQuantityCell(buffer, cart.getQuantity(index));
+        writeAmountLine(buffer, cart.getLineAmount(index));
+    }
+
+    private void writeGiftLine(ByteBuffer buffer, Cart cart, int index) {
+        int freeQuantity = cart.getAllocation(index).freeQuantity();
+        if (freeQuantity <= 0) {
+            return;
+        }
+        buffer.put(nameCell(cart.getProduct(index).getName()));
+        writeNumber(buffer, freeQuantity, false);
+        buffer.put(NEW_LINE);
+    }
+
+    private byte[] nameCell(String name) {
+        return nameCells.computeIfAbsent(name, key -> compileCell(key, NAME_COLUMN));
+    }
+
+    private void writeQuantityCell(ByteBuffer buffer, int quantity) {
+        int written = writeNumber(buffer, quantity, false);
+        writeSpaces(buffer, QUANTITY_COLUMN - written);
+    }
+
+    private void writeAmountLine(ByteBuffer buffer, Money amount) {
+        writeAmountLine(buffer, amount.getAmount());
+    }
+
+    private void writeAmountLine(ByteBuffer buffer, long amount) {
+        writeNumber(buffer, amount, true);
+        buffer.put(NEW_LINE);
+    }
+
+    private int writeNumber(ByteBuffer buffer, long value, boolean grouped) {
+        int digits = countDigits(value);
+        int separators = grouped ? (digits - 1) / 3 : 0;
+        int length = digits + separators + (value < 0 ? 1 : 0);
+        if (buffer.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+        int start = buffer.position();
+        int index = start + length - 1;
+        long remaining = value;
+        for (int digit = 1; digit <= digits; digit++) {
+            buffer.put(index--, (byte) ('0' + Math.abs(remaining % 10)));
+            remaining /= 10;
+            if (grouped && digit % 3 == 0 && digit < digits) {
+                buffer.put(index--, COMMA);
+            }
+        }
+        if (value < 0) {
+            buffer.put(start, MINUS);
+        }
+        buffer.position(start + length);
+        return length;
+    }
+
+    private static int countDigits(long value) {
+        int digits = 1;
+        for (long remaining = value / 10; remaining != 0; remaining /= 10) {
+            digits++;
+        }
+        return digits;
+    }
+
+    private static void writeSpaces(ByteBuffer buffer, int count) {
+        for (int i = 0; i < count; i++) {
+            buffer.put(SPACE);
+        }
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteBuffer buffer = ByteBuffer.allocate(Arrays.stream(parts).mapToInt(part -> part.length).sum());
+        Arrays.stream(parts).forEach(buffer::put);
+        return buffer.array();
+    }
+
+    private static byte[] compileLine(String text) {
+        byte[] encoded = encode(text);
+        byte[] line = new byte[encoded.length + 1];
+        System.arraycopy(encoded, 0, line, 0, encoded.length);
+        line[encoded.length] = NEW_LINE;
+        return line;
+    }
+
+    private static byte[] compileCell(String text, int width) {
+        byte[] encoded = encode(text);
+        int padding = Math.max(0, width - displayWidth(text));
+        byte[] cell = new byte[encoded.length + padding];
+        System.arraycopy(encoded, 0, cell, 0, encoded.length);
+        for (int i = encoded.length; i < cell.length; i++) {
+            cell[i] = SPACE;
+        }
+        return cell;
+    }
+
+    static int displayWidth(String text) {
+        return text.codePoints()
+                .map(codePoint -> isWide(codePoint) ? 2 : 1)
+                .sum();
+    }
+
+    private static boolean isWide(int codePoint) {
+        return (codePoint >= 0x1100 && codePoint <= 0x115F)
+                || (codePoint >= 0x2E80 && codePoint <= 0xA4CF)
+                || (codePoint >= 0xAC00 && codePoint <= 0xD7A3)
+                || (codePoint >= 0xF900 && codePoint <= 0xFAFF)
+                || (codePoint >= 0xFF00 && codePoint <= 0xFF60)
+                || (codePoint >= 0xFFE0 && codePoint <= 0xFFE6);
+    }
+
+    private static byte[] encode(String text) {
+        ByteBuffer buffer = ByteBuffer.allocate(text.length() * 4);
+        text.codePoints().forEach(codePoint -> putUtf8(buffer, codePoint));
+        byte[] encoded = new byte[buffer.position()];
+        buffer.flip().get(encoded);
+        return encoded;
+    }
+
+    private static void putUtf8(ByteBuffer buffer, int codePoint) {
+        if (codePoint < 0x80) {
+            buffer.put((byte) codePoint);
+        } else if (codePoint < 0x800) {
+            buffer.put((byte) (0xC0 | (codePoint >> 6)))
+                    .put((byte) (0x80 | (codePoint & 0x3F)));
+        } else if (codePoint < 0x10000) {
+            buffer.put((byte) (0xE0 | (codePoint >> 12)))
+                    .put((byte) (0x80 | ((codePoint >> 6) & 0x3F)))
+                    .put((byte) (0x80 | (codePoint & 0x3F)));
+        } else {
+            buffer.put((byte) (0xF0 | (codePoint >> 18)))
+                    .put((byte) (0x80 | ((codePoint >> 12) & 0x3F)))
+                    .put((byte) (0x80 | ((codePoint >> 6) & 0x3F)))
+                    .put((byte) (0x80 | (codePoint & 0x3F)));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package store.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import store.model.Product;
+import store.model.ProductPage;
+import store.model.ProductQuery;
+import store.model.Promotion;
+import store.service.OrderService;
+import store.service.ProductService;
+import store.util.FileReader;
+import store.view.InputView;
+import store.view.OutputView;
+
+class StoreControllerTest {
+    private final ProductService productService = new ProductService(new TestFileReader());
+    private final RecordingOutputView outputView = new RecordingOutputView();
+
+    @Test
+    void 잘못된_입력이_계속되어도_스택이_쌓이지_않음() {
+        List<String> lines = new ArrayList<>();
+        for (int attempt = 0; attempt < 100_000; attempt++) {
+            lines.add("[물-1");
+        }
+        lines.addAll(List.of("[물-1]", "N", "N"));
+
+        run(lines, RetryPolicy.unlimited());
+
+        assertThat(outputView.errors.size()).isEqualTo(100_000);
+        assertThat(productService.findOriginalProduct("물").getNormalStock()).isEqualTo(9);
+    }
+
+    @Test
+    void 재시도_한도를_넘으면_주문_종료() {
+        ScriptedInputView inputView = run(List.of("[물-1", "[물-1", "[물-1", "[물-1]", "N", "N"), RetryPolicy.of(3));
+
+        assertThat(outputView.errors.size()).isEqualTo(4);
+        assertThat(inputView.remaining()).isEqualTo(3);
+        assertThat(productService.findOriginalProduct("물").getNormalStock()).isEqualTo(10);
+    }
+
+    @Test
+    void 단계가_성공하면_연속_실패_횟수_초기화() {
+        ScriptedInputView inputView = run(List.of("[물-1", "[물-1", "[물-1]", "X", "X", "N", "N"), RetryPolicy.of(3));
+
+        assertThat(outputView.errors.size()).isEqualTo(4);
+        assertThat(inputView.remaining()).isEqualTo(0);
+        assertThat(productService.findOriginalProduct("물").getNormalStock()).isEqualTo(9);
+    }
+
+    @Test
+    void 잘못된_응답은_같은_질문만_다시_묻기() {
+        ScriptedInputView inputView = run(List.of("[물-1]", "X", "N", "N"), RetryPolicy.of(3));
+
+        assertThat(outputView.errors.size()).isEqualTo(1);
+        assertThat(inputView.remaining()).isEqualTo(0);
+        assertThat(productService.findOriginalProduct("물").getNormalStock()).isEqualTo(9);
+    }
+
+    @Test
+    void 주문_입력에서_상품_목록_페이지_이동() {
+        OrderService orderService = new OrderService(productService);
+        orderService.productQuery(ProductQuery.parse("size=1"));
+
+        run(orderService, List.of(">", ">", "<", "[물-1]", "N", "N"), RetryPolicy.of(3));
+
+        assertThat(outputView.pages).containsExactly(1, 2, 2, 1);
+        assertThat(outputView.errors).isEmpty();
+        assertThat(productService.findOriginalProduct("물").getNormalStock()).isEqualTo(9);
+    }
+
+    private ScriptedInputView run(List<String> lines, RetryPolicy retryPolicy) {
+        return run(new OrderService(productService), lines, retryPolicy);
+    }
+
+    private ScriptedInputView run(OrderService orderService, List<String> lines, RetryPolicy retryPolicy) {
+        ScriptedInputView inputView = new ScriptedInputView(lines);
+        new StoreController(productService, orderService, inputView, outputView, null, retryPolicy).run();
+        return inputView;
+    }
+
+    private static class ScriptedInputView extends InputView {
+        private final Deque<String> lines;
+
+        ScriptedInputView(List<String> lines) {
+            this.lines = new ArrayDeque<>(lines);
+        }
+
+        int remaining() {
+            return lines.size();
+        }
+
+        @Override
+        public String readFirstOrder() {
+            return lines.poll();
+        }
+
+        @Override
+        public String readMembershipOption() {
+            return lines.poll();
+        }
+
+        @Override
+        public String readContinueOrder() {
+            return lines.poll();
+        }
+    }
+
+    private static class RecordingOutputView extends OutputView {
+        private final List<String> errors = new ArrayList<>();
+        private final List<Integer> pages = new ArrayList<>();
+
+        @Override
+        public void printFirstMessage() {
+        }
+
+        @Override
+        public void printError(String message) {
+            errors.add(message);
+        }
+
+        @Override
+        public void printPageFooter(ProductPage page) {
+            pages.add(page.page());
+        }
+    }
+
+    private static class TestFileReader extends FileReader {
+        @Override
+        public List<Product> getProducts() {
+            return List.of(new Product("물", 500, 10, null), new Product("콜라", 1000, 10, null));
+        }
+
+        @Override
+        public List<Promotion> getPromotions() {
+            LocalDateTime now = LocalDateTime.now();
+            return List.of(new Promotion("탄산2+1", 2, 1, now.minusDays(1), now.plusDays(1)));
+        }
+    }
+}
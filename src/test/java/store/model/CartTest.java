@@ -1,6 +1,7 @@
 package store.model;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,7 +30,7 @@ class CartTest {
     void 장바구니_총금액계산() {
         cart.addOrder(order);
 
-        assertThat(cart.calculateTotalPrice()).isEqualTo(2000);
+        assertThat(cart.calculateTotalPrice()).isEqualTo(Money.of(2000));
     }
 
     @Test
@@ -43,4 +44,27 @@ class CartTest {
         assertThat(cart.getPromotionalOrders()).hasSize(1);
         assertThat(cart.getNormalOrders()).hasSize(1);
     }
+
+    @Test
+    void 주문_목록은_복사하지_않는_읽기_전용_보기() {
+        cart.addOrder(order);
+
+        assertThat(cart.getOrders()).isSameAs(cart.getOrders());
+        assertThatThrownBy(() -> cart.getOrders().add(order))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(cart.getOrders().get(0).getProduct()).isSameAs(product);
+        assertThat(cart.getQuantity(0)).isEqualTo(2);
+        assertThat(cart.isPromotional(0)).isTrue();
+    }
+
+    @Test
+    void 비운_장바구니를_다시_사용() {
+        cart.addOrder(order);
+        cart.clear();
+        cart.addOrder(new Order(new Product("물", 500, 10, null), 3, false));
+
+        assertThat(cart.size()).isEqualTo(1);
+        assertThat(cart.calculateTotalPrice()).isEqualTo(Money.of(1500));
+        assertThat(cart.getPromotionalOrders()).isEmpty();
+    }
 }
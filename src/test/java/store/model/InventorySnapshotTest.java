@@ -0,0 +1,101 @@
+package store.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class InventorySnapshotTest {
+    private InventorySnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        snapshot = InventorySnapshot.of(0, IntStream.range(0, 100)
+                .mapToObj(index -> new StockSnapshot("상품" + index, Money.of(1000), null, 0, index))
+                .toList());
+    }
+
+    @Test
+    void 새_버전_생성시_이전_버전은_변경되지_않음() {
+        InventorySnapshot next = snapshot.with(70, new StockSnapshot("상품70", Money.of(1000), null, 0, 1));
+
+        assertThat(next.getVersion()).isEqualTo(1);
+        assertThat(next.get(70).normalStock()).isEqualTo(1);
+        assertThat(snapshot.get(70).normalStock()).isEqualTo(70);
+    }
+
+    @Test
+    void 변경되지_않은_항목은_공유() {
+        InventorySnapshot next = snapshot.with(3, new StockSnapshot("상품3", Money.of(1000), null, 0, 0));
+
+        assertThat(next.get(4)).isSameAs(snapshot.get(4));
+        assertThat(next.get(99)).isSameAs(snapshot.get(99));
+    }
+
+    @Test
+    void 상품명별_재고_합산() {
+        InventorySnapshot inventory = InventorySnapshot.of(0, List.of(
+                new StockSnapshot("콜라", Money.of(1000), "탄산2+1", 10, 0),
+                new StockSnapshot("콜라", Money.of(1000), "null", 0, 5)
+        ));
+
+        assertThat(inventory.getTotalStock("콜라")).isEqualTo(15);
+        assertThat(inventory.get(1).hasPromotion()).isFalse();
+    }
+
+    @Test
+    void 범위를_벗어난_조회_실패() {
+        assertThatThrownBy(() -> snapshot.get(100))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void 요청한_페이지만_조회() {
+        ProductPage page = snapshot.query(ProductQuery.parse("page=3,size=10"));
+
+        assertThat(page.products().size()).isEqualTo(10);
+        assertThat(page.products().get(0).name()).isEqualTo("상품20");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(snapshot.query(ProductQuery.all().withPage(10).withPageSize(10)).hasNext()).isFalse();
+    }
+
+    @Test
+    void 이름_접두어와_재고_조건으로_조회() {
+        ProductPage page = snapshot.query(ProductQuery.parse("prefix=상품1,instock"));
+
+        assertThat(page.products().size()).isEqualTo(11);
+        assertThat(page.products().get(0).name()).isEqualTo("상품1");
+        assertThat(snapshot.query(ProductQuery.parse("prefix=상품0,instock")).products()).isEmpty();
+    }
+
+    @Test
+    void 이름_접두어는_카탈로그_순서대로_조회() {
+        InventorySnapshot inventory = InventorySnapshot.of(0, List.of(
+                new StockSnapshot("콜라", Money.of(1000), "탄산2+1", 10, 0),
+                new StockSnapshot("사이다", Money.of(1000), null, 0, 5),
+                new StockSnapshot("콜라", Money.of(1000), null, 0, 5),
+                new StockSnapshot("코코아", Money.of(1500), null, 0, 3),
+                new StockSnapshot("콜드브루", Money.of(3000), null, 0, 0)
+        ));
+
+        ProductPage page = inventory.query(ProductQuery.parse("prefix=콜,size=2,page=2"));
+
+        assertThat(page.products()).containsExactly(inventory.get(4));
+        assertThat(inventory.query(ProductQuery.parse("prefix=콜,size=2")).hasNext()).isTrue();
+        assertThat(inventory.query(ProductQuery.parse("prefix=코")).products()).containsExactly(inventory.get(3));
+        assertThat(inventory.query(ProductQuery.parse("prefix=커")).products()).isEmpty();
+        assertThat(inventory.getTotalStock("콜라")).isEqualTo(15);
+        assertThat(inventory.getTotalStock("커피")).isEqualTo(0);
+    }
+
+    @Test
+    void 잘못된_조회_조건_실패() {
+        assertThatThrownBy(() -> ProductQuery.parse("page=0"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductQuery.parse("sort=name"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package store.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import store.exception.ErrorCode;
+
+class MoneyTest {
+    @Test
+    void 금액_연산() {
+        Money price = Money.of(1500);
+
+        assertThat(price.times(3)).isEqualTo(Money.of(4500));
+        assertThat(price.plus(Money.of(500))).isEqualTo(Money.of(2000));
+        assertThat(price.minus(Money.of(2000))).isEqualTo(Money.of(-500));
+        assertThat(price.negate()).isEqualTo(Money.of(-1500));
+        assertThat(price.min(Money.of(800))).isEqualTo(Money.of(800));
+    }
+
+    @Test
+    void int_범위를_넘는_금액_계산() {
+        Money total = Money.of(Integer.MAX_VALUE).times(4);
+
+        assertThat(total.getAmount()).isEqualTo(Integer.MAX_VALUE * 4L);
+    }
+
+    @Test
+    void long_범위를_넘으면_예외() {
+        assertThatThrownBy(() -> Money.of(Long.MAX_VALUE).plus(Money.of(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ErrorCode.AMOUNT_OVERFLOW.getMessage());
+        assertThatThrownBy(() -> Money.of(Long.MAX_VALUE / 2).times(3))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 자주_쓰는_금액은_같은_인스턴스_재사용() {
+        assertThat(Money.of(1000)).isSameAs(Money.of(500).times(2));
+        assertThat(Money.of(0)).isSameAs(Money.ZERO);
+        assertThat(Money.of(1050)).isEqualTo(Money.of(1050));
+    }
+
+    @Test
+    void long_연산_도우미도_범위를_넘으면_예외() {
+        assertThat(Money.addExact(Money.multiplyExact(1500, 3), 500)).isEqualTo(5000L);
+        assertThatThrownBy(() -> Money.multiplyExact(Long.MAX_VALUE, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ErrorCode.AMOUNT_OVERFLOW.getMessage());
+    }
+}
@@ -19,7 +19,7 @@ class OrderTest {
         Order order = new Order(product, 2, true);
 
         assertThat(order.getQuantity()).isEqualTo(2);
-        assertThat(order.calculateTotalPrice()).isEqualTo(2000);
+        assertThat(order.calculateTotalPrice()).isEqualTo(Money.of(2000));
         assertThat(order.isPromotional()).isTrue();
     }
 
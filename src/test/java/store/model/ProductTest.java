@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -20,7 +22,7 @@ class ProductTest {
     @Test
     void 프로모션상품_생성_검증() {
         assertThat(promotionalProduct.getName()).isEqualTo("콜라");
-        assertThat(promotionalProduct.getPrice()).isEqualTo(1000);
+        assertThat(promotionalProduct.getPrice()).isEqualTo(Money.of(1000));
         assertThat(promotionalProduct.getPromotionalStock()).isEqualTo(10);
         assertThat(promotionalProduct.hasPromotion()).isTrue();
     }
@@ -37,6 +39,43 @@ class ProductTest {
         assertThat(normalProduct.canFulfillOrder(5)).isTrue();
         assertThat(normalProduct.canFulfillOrder(11)).isFalse();
     }
+
+    @Test
+    void 프로모션_재고보다_많이_옮기면_실패() {
+        promotionalProduct.transferPromotionStockToNormal(4);
+
+        assertThat(promotionalProduct.getNormalStock()).isEqualTo(4);
+        assertThatThrownBy(() -> promotionalProduct.transferPromotionStockToNormal(7))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(promotionalProduct.getPromotionalStock()).isEqualTo(6);
+    }
+
+    @Test
+    void 재고_변경_중에_리스너를_추가해도_알림_유지() throws InterruptedException {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicInteger notifications = new AtomicInteger();
+        Thread seller = new Thread(() -> {
+            try {
+                for (int sale = 0; sale < 10_000; sale++) {
+                    normalProduct.restock(1);
+                }
+            } catch (RuntimeException e) {
+                failure.set(e);
+            }
+        });
+
+        seller.start();
+        for (int listener = 0; listener < 1_000; listener++) {
+            normalProduct.addStockChangeListener(product -> { });
+        }
+        seller.join();
+        normalProduct.addStockChangeListener(product -> notifications.incrementAndGet());
+        normalProduct.restock(1);
+
+        assertThat(failure.get()).isNull();
+        assertThat(notifications.get()).isEqualTo(1);
+        assertThat(normalProduct.getNormalStock()).isEqualTo(10_011);
+    }
 }
 
 class PromotionTest {
@@ -54,7 +93,21 @@ class PromotionTest {
     @Test
     void 프로모션_유효기간_검증() {
         Promotion promotion = new Promotion("탄산2+1", 2, 1, yesterday, tomorrow);
-        assertThat(promotion.isValid()).isTrue();
+        assertThat(promotion.isValid(now)).isTrue();
+        assertThat(promotion.isValid(tomorrow.plusDays(1))).isFalse();
+    }
+
+    @Test
+    void 파일의_구매_증정_수량과_새_프로모션_이름_사용() {
+        Promotion promotion = new Promotion("봄맞이3+1", 3, 1, yesterday, tomorrow);
+
+        assertThat(promotion.getBuyQuantity()).isEqualTo(3);
+        assertThat(promotion.getFreeQuantity()).isEqualTo(1);
+        assertThat(promotion.getType()).isEmpty();
+        assertThat(promotion.shouldAskForPromotion()).isFalse();
+        assertThat(new Promotion("MD추천상품", 2, 1, yesterday, tomorrow).shouldAskForPromotion()).isTrue();
+        assertThatThrownBy(() -> new Promotion("봄맞이3+1", 0, 1, yesterday, tomorrow))
+                .isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
@@ -0,0 +1,128 @@
+package store.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class ShardedStockTest {
+    @Test
+    void 재고를_하위_풀에_나누어도_합계는_같음() {
+        ShardedStock stock = new ShardedStock(4, 10);
+
+        assertThat(stock.get()).isEqualTo(10);
+        assertThat(stock.getShard(0)).isEqualTo(3);
+        assertThat(stock.getShard(3)).isEqualTo(2);
+    }
+
+    @Test
+    void 다른_풀의_재고를_가져와_차감() {
+        ShardedStock stock = new ShardedStock(4, 10);
+
+        assertThat(stock.tryTake(9)).isTrue();
+        assertThat(stock.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 재고가_부족하면_차감하지_않음() {
+        ShardedStock stock = new ShardedStock(4, 10);
+
+        assertThat(stock.tryTake(11)).isFalse();
+        assertThat(stock.get()).isEqualTo(10);
+    }
+
+    @Test
+    void 합계가_부족하면_다른_풀을_건드리지_않고_실패() {
+        ShardedStock stock = new ShardedStock(4, 10);
+
+        assertThat(stock.tryTake(11)).isFalse();
+        assertThat(stock.getShard(0)).isEqualTo(3);
+        assertThat(stock.getShard(1)).isEqualTo(3);
+        assertThat(stock.getShard(2)).isEqualTo(2);
+        assertThat(stock.getShard(3)).isEqualTo(2);
+    }
+
+    @Test
+    void 경합으로_실패해도_재고는_보존() throws InterruptedException {
+        for (int round = 0; round < 200; round++) {
+            ShardedStock stock = new ShardedStock(4, 10);
+            AtomicInteger sold = new AtomicInteger();
+            Thread first = new Thread(() -> sold.addAndGet(stock.tryTake(6) ? 6 : 0));
+            Thread second = new Thread(() -> sold.addAndGet(stock.tryTake(6) ? 6 : 0));
+            first.start();
+            second.start();
+            first.join();
+            second.join();
+
+            assertThat(sold.get()).isLessThanOrEqualTo(6);
+            assertThat(stock.get() + sold.get()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    void 여러_풀에_걸친_차감_중에도_합계는_중간값을_보이지_않음() throws InterruptedException {
+        for (int round = 0; round < 200; round++) {
+            ShardedStock stock = new ShardedStock(4, 10);
+            AtomicInteger finished = new AtomicInteger();
+            AtomicInteger unexpected = new AtomicInteger();
+            Thread reader = new Thread(() -> {
+                while (finished.get() < 2) {
+                    int observed = stock.get();
+                    if (observed != 10 && observed != 4) {
+                        unexpected.incrementAndGet();
+                    }
+                }
+            });
+            Thread first = new Thread(() -> {
+                stock.tryTake(6);
+                finished.incrementAndGet();
+            });
+            Thread second = new Thread(() -> {
+                stock.tryTake(6);
+                finished.incrementAndGet();
+            });
+            reader.start();
+            first.start();
+            second.start();
+            first.join();
+            second.join();
+            reader.join();
+
+            assertThat(unexpected.get()).isEqualTo(0);
+            assertThat(stock.get()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void 동시에_차감해도_초과_판매되지_않음() throws InterruptedException {
+        ShardedStock stock = new ShardedStock(8, 1_000);
+        AtomicInteger sold = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int task = 0; task < 2_000; task++) {
+            executor.execute(() -> {
+                if (stock.tryTake(1)) {
+                    sold.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertThat(sold.get()).isEqualTo(1_000);
+        assertThat(stock.get()).isEqualTo(0);
+    }
+
+    @Test
+    void 분할_재고_상품도_같은_재고를_보고() {
+        Product product = new Product("콜라", 1000, 10, null);
+        product.enableSharding(4);
+
+        assertThat(product.isSharded()).isTrue();
+        assertThat(product.getNormalStock()).isEqualTo(10);
+        assertThat(product.tryDecreaseNormalStock(4)).isTrue();
+        assertThat(product.getNormalStock()).isEqualTo(6);
+    }
+}
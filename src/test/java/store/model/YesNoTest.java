@@ -22,4 +22,25 @@ class YesNoTest {
         assertThatThrownBy(() -> YesNo.from("X"))
                 .isInstanceOf(IllegalArgumentException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void 첫_글자로_응답_해석() {
+        assertThat(YesNo.decode("y")).isEqualTo(YesNo.YES);
+        assertThat(YesNo.decode("n")).isEqualTo(YesNo.NO);
+        assertThatThrownBy(() -> YesNo.decode("YES"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> YesNo.decode(""))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 미리_지정한_응답은_입력_없이_사용() {
+        PresetAnswers answers = PresetAnswers.parse("membership=Y, continue=N");
+
+        assertThat(answers.answer(Prompt.MEMBERSHIP, () -> {
+            throw new AssertionError();
+        })).isEqualTo(YesNo.YES);
+        assertThat(answers.answer(Prompt.CONTINUE, () -> "Y")).isEqualTo(YesNo.NO);
+        assertThat(answers.answer(Prompt.ADDITIONAL_ITEM, () -> "Y")).isEqualTo(YesNo.YES);
+    }
+}
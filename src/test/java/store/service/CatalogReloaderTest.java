@@ -0,0 +1,118 @@
+package store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import store.model.Catalog;
+import store.model.Money;
+import store.model.Product;
+import store.util.FileReader;
+
+class CatalogReloaderTest {
+    private Path directory;
+    private Path productsFile;
+    private ProductService productService;
+    private CatalogReloader catalogReloader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("catalog");
+        productsFile = directory.resolve("products.md");
+        Path promotionsFile = directory.resolve("promotions.md");
+        Files.write(productsFile, List.of("name,price,quantity,promotion", "콜라,1000,10,탄산2+1", "콜라,1000,10,null"));
+        Files.write(promotionsFile, List.of("name,buy,get,start_date,end_date", "탄산2+1,2,1,2024-01-01,2024-12-31"));
+
+        FileReader fileReader = new FileReader(productsFile, promotionsFile);
+        productService = new ProductService(fileReader);
+        catalogReloader = new CatalogReloader(productService, fileReader);
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogReloader.close();
+    }
+
+    @Test
+    void 파일_재적재시_새_카탈로그로_교체() throws IOException {
+        Catalog before = productService.getCatalog();
+        Files.write(productsFile, List.of("name,price,quantity,promotion", "콜라,1000,3,null", "물,500,4,null"));
+
+        Catalog after = catalogReloader.reload().join();
+
+        assertThat(productService.getCatalog()).isSameAs(after);
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(after.getProducts()).hasSize(2);
+        assertThat(before.getProducts()).hasSize(2);
+        assertThat(productService.findOriginalProduct("물").getNormalStock()).isEqualTo(4);
+        assertThat(productService.getCatalog().findNormalProduct("콜라").orElseThrow().getNormalStock()).isEqualTo(10);
+    }
+
+    @Test
+    void 재적재해도_판매된_재고는_되살리지_않고_가격만_반영() throws IOException {
+        productService.getCatalog().findNormalProduct("콜라").orElseThrow().decreaseNormalStock(4);
+        Files.write(productsFile, List.of("name,price,quantity,promotion", "콜라,1000,10,탄산2+1", "콜라,1200,10,null"));
+
+        catalogReloader.reload().join();
+
+        Product reloaded = productService.getCatalog().findNormalProduct("콜라").orElseThrow();
+        assertThat(reloaded.getNormalStock()).isEqualTo(6);
+        assertThat(reloaded.getPrice()).isEqualTo(Money.of(1200));
+        assertThat(productService.getInventorySnapshot().getTotalStock("콜라")).isEqualTo(16);
+        assertThat(productService.getInventoryWatcher().getStock("콜라")).isEqualTo(16);
+    }
+
+    @Test
+    void 입고_파일로_재고_추가() throws IOException {
+        Path deltaFile = directory.resolve("delivery.md");
+        Files.write(deltaFile, List.of("name,price,quantity,promotion", "콜라,1000,5,null", "사이다,1000,7,null"));
+
+        catalogReloader.restock(deltaFile).join();
+
+        assertThat(productService.getInventoryWatcher().getStock("콜라")).isEqualTo(25);
+        assertThat(productService.findOriginalProduct("사이다").getNormalStock()).isEqualTo(7);
+    }
+
+    @Test
+    void 입고는_기존_행을_바꾸지_않고_새_카탈로그로_발행() throws IOException {
+        Path deltaFile = directory.resolve("delivery.md");
+        Files.write(deltaFile, List.of("name,price,quantity,promotion", "콜라,1000,5,null"));
+        CheckoutContext context = productService.openCheckout();
+
+        catalogReloader.restock(deltaFile).join();
+
+        assertThat(context.getCatalog().findNormalProduct("콜라").orElseThrow().getNormalStock()).isEqualTo(10);
+        assertThat(productService.getCatalog().findNormalProduct("콜라").orElseThrow().getNormalStock()).isEqualTo(15);
+        assertThat(productService.checkStock(context, "콜라", 25)).isFalse();
+    }
+
+    @Test
+    void 감시_실패를_기록하고_재시도() throws InterruptedException {
+        Path missing = directory.resolve("missing");
+        FileReader fileReader = new FileReader(missing.resolve("products.md"), missing.resolve("promotions.md"));
+        try (CatalogReloader failingReloader = new CatalogReloader(productService, fileReader)) {
+            failingReloader.startWatching();
+            for (int attempt = 0; attempt < 50 && failingReloader.getWatchFailure().isEmpty(); attempt++) {
+                Thread.sleep(20);
+            }
+
+            assertThat(failingReloader.getWatchFailure()).isPresent();
+        }
+    }
+
+    @Test
+    void 교체_이전_카탈로그는_그대로_유지() throws IOException {
+        Catalog before = productService.getCatalog();
+        Files.write(productsFile, List.of("name,price,quantity,promotion", "물,500,4,null"));
+
+        catalogReloader.reload().join();
+
+        assertThat(before.findOriginalProduct("콜라")).isPresent();
+        assertThat(productService.getCatalog().findOriginalProduct("콜라")).isEmpty();
+    }
+}
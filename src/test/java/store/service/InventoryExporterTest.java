@@ -0,0 +1,129 @@
+package store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import store.model.InventorySnapshot;
+import store.model.Money;
+import store.model.Product;
+import store.model.Promotion;
+import store.util.FileReader;
+
+class InventoryExporterTest {
+    private final ProductService productService = new ProductService(new TestFileReader());
+    private final InventoryExporter exporter = new InventoryExporter(productService);
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("inventory");
+    }
+
+    @Test
+    void 상품_파일과_같은_형식으로_내보내기() throws IOException {
+        productService.findOriginalProduct("콜라").decreasePromotionStock(3);
+        Path target = directory.resolve("inventory.md");
+
+        exporter.export(target, InventoryExporter.Format.CSV);
+
+        assertThat(Files.readAllLines(target)).containsExactly(
+                "name,price,quantity,promotion",
+                "콜라,1000,7,탄산2+1",
+                "콜라,1000,10,null",
+                "물,500,4,null");
+        assertThat(new FileReader(target, directory).readProducts(target).size()).isEqualTo(3);
+    }
+
+    @Test
+    void 바이너리로_내보낸_재고를_다시_읽기() {
+        Path target = directory.resolve("inventory.bin");
+
+        long version = exporter.export(target, InventoryExporter.Format.BINARY);
+        InventorySnapshot restored = InventoryExporter.readBinary(target);
+
+        assertThat(restored.getVersion()).isEqualTo(version);
+        assertThat(restored.size()).isEqualTo(3);
+        assertThat(restored.get(0).price()).isEqualTo(Money.of(1000));
+        assertThat(restored.getTotalStock("콜라")).isEqualTo(20);
+        assertThat(restored.get(2).hasPromotion()).isFalse();
+    }
+
+    @Test
+    void 주문_하나의_변경은_한_버전에_모두_반영() throws Exception {
+        Path target = directory.resolve("inventory.bin");
+        Thread buyer = new Thread(() -> {
+            OrderService orderService = new OrderService(productService);
+            for (int order = 0; order < 50; order++) {
+                orderService.beginAttempt();
+                orderService.processOrder("콜라", 1);
+                orderService.processOrder("물", 1);
+                orderService.applyPendingOrders();
+            }
+        });
+        productService.getProducts().stream()
+                .filter(product -> !product.hasPromotion())
+                .forEach(product -> product.restock(product.getName().equals("물") ? 46 : 30));
+
+        buyer.start();
+        while (buyer.isAlive()) {
+            exporter.export(target, InventoryExporter.Format.BINARY);
+            InventorySnapshot exported = InventoryExporter.readBinary(target);
+            assertThat(exported.getTotalStock("콜라")).isEqualTo(exported.getTotalStock("물"));
+        }
+        buyer.join();
+        assertThat(productService.getInventorySnapshot().getTotalStock("물")).isEqualTo(0);
+    }
+
+    @Test
+    void 쓰기에_실패하면_임시_파일을_남기지_않음() throws IOException {
+        Path target = directory.resolve("inventory.bin");
+        Files.createDirectory(target);
+        Files.writeString(target.resolve("occupied"), "x");
+
+        assertThatThrownBy(() -> exporter.export(target, InventoryExporter.Format.BINARY))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("내보낼 수 없습니다");
+        assertThat(Files.exists(directory.resolve("inventory.bin.tmp"))).isFalse();
+    }
+
+    @Test
+    void 재고_파일이_아니면_읽기_실패() throws IOException {
+        Path target = directory.resolve("inventory.bin");
+        Files.writeString(target, "name,price,quantity,promotion\n");
+
+        assertThatThrownBy(() -> InventoryExporter.readBinary(target))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("읽을 수 없습니다");
+    }
+
+    @Test
+    void 지원하지_않는_형식_실패() {
+        assertThat(InventoryExporter.Format.from("binary")).isEqualTo(InventoryExporter.Format.BINARY);
+        assertThatThrownBy(() -> InventoryExporter.Format.from("xml"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class TestFileReader extends FileReader {
+        @Override
+        public List<Product> getProducts() {
+            return List.of(
+                    new Product("콜라", 1000, 10, "탄산2+1"),
+                    new Product("콜라", 1000, 10, null),
+                    new Product("물", 500, 4, null)
+            );
+        }
+
+        @Override
+        public List<Promotion> getPromotions() {
+            LocalDateTime now = LocalDateTime.now();
+            return List.of(new Promotion("탄산2+1", 2, 1, now.minusDays(1), now.plusDays(1)));
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import store.model.InventorySnapshot;
+import store.model.Product;
+
+class InventoryVersionsTest {
+    private final Product cola = new Product("콜라", 1000, 10, "탄산2+1");
+    private final Product water = new Product("물", 500, 10, null);
+    private final InventoryVersions inventoryVersions = new InventoryVersions(List.of(cola, water));
+
+    @Test
+    void 재고_변경시_새_버전_커밋() {
+        InventorySnapshot before = inventoryVersions.current();
+
+        cola.decreasePromotionStock(3);
+
+        assertThat(inventoryVersions.current().getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(inventoryVersions.current().get(0).promotionStock()).isEqualTo(7);
+        assertThat(before.get(0).promotionStock()).isEqualTo(10);
+    }
+
+    @Test
+    void 여러_상품_주문은_한_버전으로_커밋() {
+        InventorySnapshot before = inventoryVersions.current();
+
+        inventoryVersions.commit(() -> {
+            cola.decreasePromotionStock(3);
+            assertThat(inventoryVersions.current()).isSameAs(before);
+            water.decreaseNormalStock(2);
+        });
+
+        assertThat(inventoryVersions.current().getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(inventoryVersions.current().get(0).promotionStock()).isEqualTo(7);
+        assertThat(inventoryVersions.current().get(1).normalStock()).isEqualTo(8);
+    }
+
+    @Test
+    void 변경이_없는_커밋은_버전을_올리지_않음() {
+        InventorySnapshot before = inventoryVersions.current();
+
+        inventoryVersions.commit(() -> {
+            cola.decreasePromotionStock(3);
+            cola.restock(3);
+        });
+
+        assertThat(inventoryVersions.current()).isSameAs(before);
+    }
+}
@@ -0,0 +1,90 @@
+package store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import store.model.Product;
+import store.model.RestockEvent;
+
+class InventoryWatcherTest {
+    private InventoryWatcher inventoryWatcher;
+    private Product promotionalCola;
+    private Product normalCola;
+    private Product water;
+    private List<RestockEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        promotionalCola = new Product("콜라", 1000, 3, "탄산2+1");
+        normalCola = new Product("콜라", 1000, 4, null);
+        water = new Product("물", 500, 2, null);
+        events = new ArrayList<>();
+
+        inventoryWatcher = new InventoryWatcher(5);
+        inventoryWatcher.watch(List.of(promotionalCola, normalCola, water));
+        inventoryWatcher.subscribe(events::add);
+    }
+
+    @Test
+    void 상품명별_재고_합산() {
+        assertThat(inventoryWatcher.getStock("콜라")).isEqualTo(7);
+        assertThat(inventoryWatcher.getStock("물")).isEqualTo(2);
+    }
+
+    @Test
+    void 재고_차감시_기준_미만_상품_조회() {
+        promotionalCola.decreasePromotionStock(3);
+
+        assertThat(inventoryWatcher.getProductsUnder(5)).containsExactlyInAnyOrder("콜라", "물");
+        assertThat(inventoryWatcher.getProductsUnder(2)).isEmpty();
+    }
+
+    @Test
+    void 품절_상품_조회() {
+        water.decreaseNormalStock(2);
+
+        assertThat(inventoryWatcher.getSoldOutProducts()).containsExactly("물");
+        assertThat(inventoryWatcher.isSoldOut("물")).isTrue();
+        assertThat(inventoryWatcher.isSoldOut("콜라")).isFalse();
+    }
+
+    @Test
+    void 기준_미만으로_떨어질때_재입고_이벤트_발행() {
+        normalCola.decreaseNormalStock(2);
+        normalCola.decreaseNormalStock(1);
+
+        assertThat(events).containsExactly(new RestockEvent("콜라", 4));
+    }
+
+    @Test
+    void 품절시_재입고_이벤트_발행() {
+        water.decreaseNormalStock(2);
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).isSoldOut()).isTrue();
+    }
+
+    @Test
+    void 여러_스레드에서_차감해도_재고_인덱스는_상품당_하나() throws InterruptedException {
+        Product juice = new Product("주스", 1000, 1_000, null);
+        inventoryWatcher.watch(List.of(juice, water));
+        List<Thread> threads = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            threads.add(new Thread(() -> {
+                for (int order = 0; order < 100; order++) {
+                    juice.decreaseNormalStock(1);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(inventoryWatcher.getStock("주스")).isEqualTo(200);
+        assertThat(inventoryWatcher.getProductsUnder(Integer.MAX_VALUE)).containsExactly("물", "주스");
+    }
+}
@@ -4,10 +4,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import store.model.Cart;
+import store.model.Catalog;
+import store.model.Money;
+import store.model.Order;
 import store.model.Product;
 import store.model.Promotion;
+import store.model.PromotionAllocation;
+import store.model.RestockEvent;
 import store.util.FileReader;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import static org.assertj.core.api.Assertions.*;
 
@@ -55,6 +61,48 @@ class ProductServiceTest {
         assertThat(result.getTotalQuantity()).isEqualTo(3);
     }
 
+    @Test
+    void 체크아웃_컨텍스트_분배결과_재사용() {
+        CheckoutContext context = productService.openCheckout();
+
+        PromotionAllocation first = productService.allocate(context, "콜라", 3);
+        PromotionAllocation second = productService.allocate(context, "콜라", 3);
+
+        assertThat(second).isSameAs(first);
+        assertThat(productService.allocate("콜라", 3)).isNotSameAs(first);
+    }
+
+    @Test
+    void 체크아웃_컨텍스트는_시작시점_카탈로그_유지() {
+        CheckoutContext context = productService.openCheckout();
+        Catalog before = productService.getCatalog();
+
+        productService.replaceCatalog(before.withProducts(List.of(new Product("물", 500, 10, null))));
+
+        assertThat(context.getCatalog()).isSameAs(before);
+        assertThat(productService.checkStock(context, "콜라", 5)).isTrue();
+    }
+
+    @Test
+    void 주문_확정_실패시_재고_알림과_버전_없이_되돌림() {
+        CheckoutContext context = productService.openCheckout();
+        PromotionAllocation cola = productService.allocate(context, "콜라", 3);
+        PromotionAllocation juice = productService.allocate(context, "오렌지주스", 4);
+        productService.findOriginalProduct("오렌지주스").decreasePromotionStock(8);
+        long version = productService.getInventorySnapshot().getVersion();
+        List<RestockEvent> events = new ArrayList<>();
+        productService.getInventoryWatcher().subscribe(events::add);
+
+        assertThatThrownBy(() -> productService.commitOrders(List.of(
+                new Order(productService.findOriginalProduct("콜라"), 3, true, cola),
+                new Order(productService.findOriginalProduct("오렌지주스"), 4, true, juice))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(productService.findOriginalProduct("콜라").getPromotionalStock()).isEqualTo(10);
+        assertThat(productService.getInventorySnapshot().getVersion()).isEqualTo(version);
+        assertThat(events).isEmpty();
+    }
+
     private static class TestFileReader extends FileReader {
         @Override
         public List<Product> getProducts() {
@@ -99,20 +147,20 @@ class OrderServiceTest {
     @Test
     void 멤버십_할인_계산() {
         orderService.addToCart("콜라", 10, false);
-        int totalPrice = orderService.calculateTotalPrice();
-        int promotionDiscount = 0;
+        Money totalPrice = orderService.calculateTotalPrice();
+        Money promotionDiscount = Money.ZERO;
 
-        int membershipDiscount = orderService.calculateMembershipDiscount(totalPrice, promotionDiscount);
+        Money membershipDiscount = orderService.calculateMembershipDiscount(totalPrice, promotionDiscount);
 
-        assertThat(membershipDiscount).isLessThanOrEqualTo(8000);
+        assertThat(membershipDiscount.getAmount()).isLessThanOrEqualTo(8000L);
     }
 
     @Test
     void 프로모션_할인_계산() {
         orderService.addToCart("콜라", 3, true);
 
-        int discountAmount = orderService.calculatePromotionDiscount();
-        assertThat(discountAmount).isEqualTo(1000);
+        Money discountAmount = orderService.calculatePromotionDiscount();
+        assertThat(discountAmount).isEqualTo(Money.of(1000));
     }
 
     @Test
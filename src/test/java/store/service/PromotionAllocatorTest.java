@@ -0,0 +1,90 @@
+package store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import store.model.Promotion;
+import store.model.PromotionAllocation;
+import store.model.PromotionCandidate;
+
+class PromotionAllocatorTest {
+    private PromotionAllocator promotionAllocator;
+    private Promotion buyTwoGetOne;
+    private Promotion buyOneGetOne;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        promotionAllocator = new PromotionAllocator();
+        buyTwoGetOne = new Promotion("탄산2+1", 2, 1, now.minusDays(1), now.plusDays(1));
+        buyOneGetOne = new Promotion("MD추천상품", 1, 1, now.minusDays(1), now.plusDays(1));
+    }
+
+    @Test
+    void 프로모션_세트와_남은_프로모션_재고_분배() {
+        PromotionAllocation allocation = promotionAllocator.allocate(8, 10,
+                new PromotionCandidate(buyTwoGetOne, 10));
+
+        assertThat(allocation.promotionSets()).isEqualTo(2);
+        assertThat(allocation.paidPromotionQuantity()).isEqualTo(4);
+        assertThat(allocation.freeQuantity()).isEqualTo(2);
+        assertThat(allocation.promotionRemainder()).isEqualTo(2);
+        assertThat(allocation.normalQuantity()).isEqualTo(0);
+    }
+
+    @Test
+    void 파일에_적힌_구매_증정_수량으로_분배() {
+        LocalDateTime now = LocalDateTime.now();
+        Promotion buyThreeGetOne = new Promotion("탄산3+1", 3, 1, now.minusDays(1), now.plusDays(1));
+
+        PromotionAllocation allocation = promotionAllocator.allocate(9, 10,
+                new PromotionCandidate(buyThreeGetOne, 10));
+
+        assertThat(allocation.promotionSets()).isEqualTo(2);
+        assertThat(allocation.paidPromotionQuantity()).isEqualTo(6);
+        assertThat(allocation.freeQuantity()).isEqualTo(2);
+        assertThat(allocation.promotionRemainder()).isEqualTo(1);
+    }
+
+    @Test
+    void 프로모션_재고_부족시_일반_재고_사용() {
+        PromotionAllocation allocation = promotionAllocator.allocate(10, 10,
+                new PromotionCandidate(buyTwoGetOne, 7));
+
+        assertThat(allocation.promotionSets()).isEqualTo(2);
+        assertThat(allocation.promotionRemainder()).isEqualTo(1);
+        assertThat(allocation.normalQuantity()).isEqualTo(3);
+        assertThat(allocation.getTotalQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    void 일반_재고까지_부족하면_부족_수량_기록() {
+        PromotionAllocation allocation = promotionAllocator.allocate(10, 2,
+                new PromotionCandidate(buyTwoGetOne, 3));
+
+        assertThat(allocation.hasShortage()).isTrue();
+        assertThat(allocation.shortage()).isEqualTo(5);
+    }
+
+    @Test
+    void 여러_프로모션_중_증정이_많은_프로모션_선택() {
+        PromotionAllocation allocation = promotionAllocator.allocate(6, 0, List.of(
+                new PromotionCandidate(buyTwoGetOne, 6),
+                new PromotionCandidate(buyOneGetOne, 6)
+        ));
+
+        assertThat(allocation.promotionName()).isEqualTo("MD추천상품");
+        assertThat(allocation.freeQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    void 프로모션이_없으면_일반_재고만_사용() {
+        PromotionAllocation allocation = promotionAllocator.allocate(4, 10, List.of());
+
+        assertThat(allocation.hasPromotion()).isFalse();
+        assertThat(allocation.normalQuantity()).isEqualTo(4);
+    }
+}
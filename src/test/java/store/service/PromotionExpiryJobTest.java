@@ -0,0 +1,119 @@
+package store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import store.model.Product;
+import store.model.Promotion;
+import store.util.FileReader;
+import store.util.StoreClock;
+
+class PromotionExpiryJobTest {
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    void 종료된_프로모션_재고를_일반_재고로_이동() {
+        ProductService productService = new ProductService(new TestFileReader(now.minusDays(1)));
+
+        int expiredRows = new PromotionExpiryJob(productService).expireNow();
+
+        assertThat(expiredRows).isEqualTo(2);
+        assertThat(productService.getProducts().size()).isEqualTo(2);
+        assertThat(productService.findOriginalProduct("콜라").hasPromotion()).isFalse();
+        assertThat(productService.findOriginalProduct("콜라").getNormalStock()).isEqualTo(15);
+        assertThat(productService.findOriginalProduct("오렌지주스").hasPromotion()).isFalse();
+        assertThat(productService.findOriginalProduct("오렌지주스").getNormalStock()).isEqualTo(9);
+        assertThat(productService.getInventorySnapshot().getTotalStock("콜라")).isEqualTo(15);
+    }
+
+    @Test
+    void 일반_재고는_복사본으로_옮기고_공개된_행은_건드리지_않음() {
+        ProductService productService = new ProductService(new TestFileReader(now.minusDays(1)));
+        Product publishedNormal = productService.getCatalog().findNormalProduct("콜라").orElseThrow();
+
+        new PromotionExpiryJob(productService).expireNow();
+
+        assertThat(productService.findOriginalProduct("콜라")).isNotSameAs(publishedNormal);
+        assertThat(productService.findOriginalProduct("콜라").getNormalStock()).isEqualTo(15);
+        assertThat(publishedNormal.getNormalStock()).isEqualTo(5);
+    }
+
+    @Test
+    void 진행중인_프로모션은_그대로_유지() {
+        ProductService productService = new ProductService(new TestFileReader(now.plusDays(1)));
+
+        assertThat(new PromotionExpiryJob(productService).expireNow()).isEqualTo(0);
+        assertThat(productService.getProducts().size()).isEqualTo(3);
+    }
+
+    @Test
+    void 종료_시각이_지나면_자동으로_이동() throws InterruptedException {
+        ProductService productService = new ProductService(new TestFileReader(LocalDateTime.now().plusNanos(300_000_000)));
+        try (PromotionExpiryJob job = new PromotionExpiryJob(productService)) {
+            job.start();
+            assertThat(productService.getProducts().size()).isEqualTo(3);
+
+            for (int attempt = 0; attempt < 50 && productService.getProducts().size() == 3; attempt++) {
+                Thread.sleep(50);
+            }
+        }
+
+        assertThat(productService.getProducts().size()).isEqualTo(2);
+    }
+
+    @Test
+    void 고정_시계에서는_종료_시각에_다시_예약하지_않음() throws InterruptedException {
+        LocalDateTime endDate = LocalDateTime.of(2024, 6, 30, 23, 59, 59);
+        AtomicInteger reads = new AtomicInteger();
+        StoreClock fixed = StoreClock.fixed(endDate);
+        StoreClock counting = new StoreClock() {
+            @Override
+            public LocalDateTime now() {
+                reads.incrementAndGet();
+                return fixed.now();
+            }
+
+            @Override
+            public boolean isFixed() {
+                return fixed.isFixed();
+            }
+        };
+        ProductService productService = new ProductService(new TestFileReader(endDate), counting);
+
+        try (PromotionExpiryJob job = new PromotionExpiryJob(productService)) {
+            job.start();
+            Thread.sleep(100);
+        }
+
+        assertThat(reads.get()).isLessThanOrEqualTo(2);
+        assertThat(productService.getProducts().size()).isEqualTo(3);
+    }
+
+    private static class TestFileReader extends FileReader {
+        private final LocalDateTime endDate;
+
+        TestFileReader(LocalDateTime endDate) {
+            this.endDate = endDate;
+        }
+
+        @Override
+        public List<Product> getProducts() {
+            return List.of(
+                    new Product("콜라", 1000, 10, "탄산2+1"),
+                    new Product("콜라", 1000, 5, null),
+                    new Product("오렌지주스", 1800, 9, "MD추천상품")
+            );
+        }
+
+        @Override
+        public List<Promotion> getPromotions() {
+            return List.of(
+                    new Promotion("탄산2+1", 2, 1, endDate.minusDays(3), endDate),
+                    new Promotion("MD추천상품", 1, 1, endDate.minusDays(3), endDate)
+            );
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import store.model.Money;
+import store.model.OrderRequest;
+import store.model.Product;
+import store.model.Promotion;
+import store.model.Quote;
+import store.util.FileReader;
+
+class QuoteCacheTest {
+    private final ProductService productService = new ProductService(new TestFileReader());
+    private final OrderService orderService = new OrderService(productService);
+    private final List<OrderRequest> basket = List.of(new OrderRequest("콜라", 3), new OrderRequest("물", 2));
+
+    @Test
+    void 같은_장바구니는_캐시에서_견적() {
+        Quote first = orderService.quote(basket, true);
+        Quote second = orderService.forSession("kiosk").quote(List.of(basket.get(1), basket.get(0)), true);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(first.getPayment()).isEqualTo(Money.of(2700));
+        assertThat(orderService.getQuoteCache().getHitCount()).isEqualTo(1L);
+        assertThat(orderService.quote(basket, false).membershipDiscount()).isEqualTo(Money.ZERO);
+    }
+
+    @Test
+    void 프로모션_세트_경계를_넘으면_다시_계산() {
+        assertThat(orderService.quote(basket, false).promotionDiscount()).isEqualTo(Money.of(1000));
+
+        productService.findOriginalProduct("콜라").decreasePromotionStock(3);
+
+        assertThat(orderService.quote(basket, false).promotionDiscount()).isEqualTo(Money.ZERO);
+        assertThat(orderService.getQuoteCache().getHitCount()).isEqualTo(0L);
+        assertThat(orderService.getQuoteCache().getMissCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void 카탈로그가_바뀌면_캐시_비우기() {
+        orderService.quote(basket, false);
+
+        productService.replaceCatalog(productService.getCatalog().withProducts(productService.getProducts()));
+
+        assertThat(orderService.getQuoteCache().size()).isEqualTo(0);
+    }
+
+    @Test
+    void 용량을_넘으면_가장_오래_쓰지_않은_견적부터_제거() {
+        QuoteCache cache = new QuoteCache(2);
+        Quote quote = new Quote(Money.of(1000), Money.ZERO, Money.ZERO);
+
+        cache.get(fingerprint(1), () -> quote);
+        cache.get(fingerprint(2), () -> quote);
+        cache.get(fingerprint(1), () -> quote);
+        cache.get(fingerprint(3), () -> quote);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(fingerprint(1), () -> null)).isEqualTo(quote);
+        assertThat(cache.get(fingerprint(2), () -> null)).isNull();
+    }
+
+    @Test
+    void 재고를_넘는_장바구니는_견적_실패() {
+        assertThatThrownBy(() -> orderService.quote(List.of(new OrderRequest("물", 11)), false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CartFingerprint fingerprint(int productId) {
+        return CartFingerprint.builder(1)
+                .line(productId, 1, 0)
+                .build(false, 0);
+    }
+
+    private static class TestFileReader extends FileReader {
+        @Override
+        public List<Product> getProducts() {
+            return List.of(
+                    new Product("콜라", 1000, 3, "탄산2+1"),
+                    new Product("콜라", 1000, 10, null),
+                    new Product("물", 500, 10, null)
+            );
+        }
+
+        @Override
+        public List<Promotion> getPromotions() {
+            LocalDateTime now = LocalDateTime.now();
+            return List.of(new Promotion("탄산2+1", 2, 1, now.minusDays(1), now.plusDays(1)));
+        }
+    }
+}
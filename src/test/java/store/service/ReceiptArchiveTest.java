@@ -0,0 +1,131 @@
+package store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import store.exception.ErrorCode;
+import store.model.ArchivedReceipt;
+
+class ReceiptArchiveTest {
+    private static final LocalDateTime OPENING = LocalDateTime.of(2024, 6, 1, 9, 0);
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("receipts");
+    }
+
+    @Test
+    void 영수증_번호로_조회() {
+        try (ReceiptArchive archive = ReceiptArchive.open(directory, 64, 256)) {
+            for (int i = 0; i < 20; i++) {
+                archive.append(receipt("영수증 " + i), OPENING.plusMinutes(i));
+            }
+
+            assertThat(archive.find(7).map(ArchivedReceipt::getText)).contains("영수증 6");
+            assertThat(archive.find(20).map(ArchivedReceipt::getText)).contains("영수증 19");
+            assertThat(archive.find(21)).isEmpty();
+        }
+    }
+
+    @Test
+    void 시간_범위로_조회() {
+        try (ReceiptArchive archive = ReceiptArchive.open(directory, 64, 256)) {
+            for (int i = 0; i < 20; i++) {
+                archive.append(receipt("영수증 " + i), OPENING.plusMinutes(i));
+            }
+
+            List<ArchivedReceipt> receipts = archive.findBetween(OPENING.plusMinutes(5), OPENING.plusMinutes(8));
+
+            assertThat(receipts.stream().map(ArchivedReceipt::receiptNumber).toList())
+                    .containsExactly(6L, 7L, 8L, 9L);
+        }
+    }
+
+    @Test
+    void 다시_열면_번호를_이어서_발급() {
+        try (ReceiptArchive archive = ReceiptArchive.open(directory, 64, 256)) {
+            archive.append(receipt("첫 영수증"), OPENING);
+            archive.append(receipt("둘째 영수증"), OPENING.plusMinutes(1));
+        }
+
+        try (ReceiptArchive archive = ReceiptArchive.open(directory, 64, 256)) {
+            assertThat(archive.append(receipt("셋째 영수증"), OPENING.plusMinutes(2))).isEqualTo(3L);
+            assertThat(archive.find(1).map(ArchivedReceipt::getText)).contains("첫 영수증");
+        }
+    }
+
+    @Test
+    void 주기적으로_디스크에_기록() throws IOException, InterruptedException {
+        Path index = directory.resolve("receipts-1.idx");
+        try (ReceiptArchive archive = ReceiptArchive.open(directory, 4096, 1 << 20, Duration.ofMillis(20))) {
+            archive.append(receipt("첫 영수증"), OPENING);
+            for (int attempt = 0; attempt < 50 && Files.size(index) == 0; attempt++) {
+                Thread.sleep(20);
+            }
+
+            assertThat(Files.size(index)).isGreaterThan(0L);
+        }
+    }
+
+    @Test
+    void 주기적_기록이_실패하면_다음_추가에서_알림() throws IOException, InterruptedException {
+        ReceiptArchive archive = failBackgroundFlush();
+
+        assertThatThrownBy(() -> archive.append(receipt("다음 영수증"), OPENING))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(ErrorCode.FAILED_TO_ACCESS_RECEIPT_ARCHIVE.getMessage());
+        archive.close();
+    }
+
+    @Test
+    void 주기적_기록이_실패하면_닫을_때_알림() throws IOException, InterruptedException {
+        ReceiptArchive archive = failBackgroundFlush();
+
+        assertThatThrownBy(archive::close)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining(ErrorCode.FAILED_TO_ACCESS_RECEIPT_ARCHIVE.getMessage());
+    }
+
+    private ReceiptArchive failBackgroundFlush() throws IOException, InterruptedException {
+        ReceiptArchive archive = ReceiptArchive.open(directory, 4096, 1, Duration.ofMillis(20));
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+        archive.append(receipt("첫 영수증"), OPENING);
+        Thread.sleep(200);
+        return archive;
+    }
+
+    @Test
+    void 블록의_가장_이른_시각으로_시간_범위_조회() {
+        try (ReceiptArchive archive = ReceiptArchive.open(directory, 4096, 1 << 20)) {
+            archive.append(receipt("늦은 영수증"), OPENING.plusHours(2));
+            archive.append(receipt("이른 영수증"), OPENING);
+            archive.flush();
+
+            assertThat(archive.findBetween(OPENING, OPENING.plusMinutes(1)).stream()
+                    .map(ArchivedReceipt::getText)
+                    .toList()).containsExactly("이른 영수증");
+        }
+    }
+
+    private ByteBuffer receipt(String text) {
+        return ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,80 @@
+package store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import store.model.Order;
+import store.model.Product;
+import store.model.PromotionAllocation;
+
+class SalesAggregatorTest {
+    private static final LocalDateTime TEN = LocalDateTime.of(2024, 6, 1, 10, 15);
+
+    private final Product cola = new Product("콜라", 1000, 10, "탄산2+1");
+    private final Product water = new Product("물", 500, 10, "null");
+
+    @Test
+    void 시간대별_상품_판매와_증정_집계() {
+        SalesAggregator aggregator = new SalesAggregator();
+
+        aggregator.recordOrder(TEN, promotionOrder(cola));
+        aggregator.recordOrder(TEN.plusMinutes(30), new Order(water, 2, false));
+        aggregator.recordMembershipDiscount(TEN, 300);
+
+        assertThat(aggregator.getSoldQuantity(TEN, "콜라")).isEqualTo(3L);
+        assertThat(aggregator.getSalesAmount(TEN, "콜라")).isEqualTo(2000L);
+        assertThat(aggregator.getSoldQuantity(TEN, "물")).isEqualTo(2L);
+        assertThat(aggregator.getFreeQuantity(TEN, "탄산2+1")).isEqualTo(1L);
+        assertThat(aggregator.getGiveawayAmount(TEN, "탄산2+1")).isEqualTo(1000L);
+        assertThat(aggregator.getMembershipDiscount(TEN)).isEqualTo(300L);
+        assertThat(aggregator.getSoldQuantity(TEN.plusHours(1), "콜라")).isEqualTo(0L);
+    }
+
+    @Test
+    void 보관_기간이_지난_시간대는_초기화() {
+        SalesAggregator aggregator = new SalesAggregator(2);
+
+        aggregator.recordOrder(TEN, new Order(water, 2, false));
+        aggregator.recordOrder(TEN.plusHours(2), new Order(water, 1, false));
+
+        assertThat(aggregator.getSoldQuantity(TEN, "물")).isEqualTo(0L);
+        assertThat(aggregator.getSoldQuantity(TEN.plusHours(2), "물")).isEqualTo(1L);
+    }
+
+    @Test
+    void 이미_지난_시간대의_늦은_기록은_무시() {
+        SalesAggregator aggregator = new SalesAggregator(2);
+        aggregator.recordOrder(TEN.plusHours(2), new Order(water, 1, false));
+
+        aggregator.recordOrder(TEN, new Order(water, 2, false));
+        aggregator.recordMembershipDiscount(TEN, 300);
+
+        assertThat(aggregator.getSoldQuantity(TEN.plusHours(2), "물")).isEqualTo(1L);
+        assertThat(aggregator.getSoldQuantity(TEN, "물")).isEqualTo(0L);
+        assertThat(aggregator.getMembershipDiscount(TEN.plusHours(2))).isEqualTo(0L);
+    }
+
+    @Test
+    void 시간대별_집계를_CSV로_내보내기() throws IOException {
+        SalesAggregator aggregator = new SalesAggregator();
+        aggregator.recordOrder(TEN, promotionOrder(cola));
+        Path target = Files.createTempFile("sales", ".csv");
+
+        aggregator.exportCsv(target);
+
+        assertThat(Files.readAllLines(target)).containsExactly(
+                "hour,type,name,quantity,amount",
+                "2024-06-01T10:00,product,콜라,3,2000",
+                "2024-06-01T10:00,promotion,탄산2+1,1,1000"
+        );
+    }
+
+    private Order promotionOrder(Product product) {
+        PromotionAllocation allocation = new PromotionAllocation("탄산2+1", 1, 2, 1, 0, 0, 0);
+        return new Order(product, 3, true, allocation);
+    }
+}
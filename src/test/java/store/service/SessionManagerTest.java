@@ -0,0 +1,160 @@
+package store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import store.exception.ErrorCode;
+import store.model.Cart;
+import store.model.PresetAnswers;
+import store.model.ProductQuery;
+import store.util.FileReader;
+import store.util.StoreClock;
+
+class SessionManagerTest {
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void 세션별로_장바구니를_분리() {
+        OrderService orderService = new OrderService(new ProductService(new FileReader()));
+        OrderService first = orderService.forSession("first");
+        OrderService second = orderService.forSession("second");
+
+        first.addToCart("물", 2, false);
+        second.addToCart("물", 1, false);
+        second.addToCart("콜라", 1, false);
+
+        assertThat(first.getCart().getOrders()).hasSize(1);
+        assertThat(second.getCart().getOrders()).hasSize(2);
+        assertThat(orderService.getSessionManager().size()).isEqualTo(2);
+    }
+
+    @Test
+    void 주문_시도마다_새_재고_기준으로_확인() {
+        ProductService productService = new ProductService(new FileReader(),
+                StoreClock.fixed(LocalDateTime.of(2024, 6, 1, 10, 0)));
+        OrderService orderService = new OrderService(productService).forSession("customer");
+        CheckoutContext firstAttempt = orderService.getCheckoutContext();
+        assertThat(productService.countApplicablePromotionSets(firstAttempt, "콜라", 9)).isEqualTo(3);
+        productService.findOriginalProduct("콜라").decreasePromotionStock(7);
+        assertThat(orderService.getCheckoutContext()).isSameAs(firstAttempt);
+
+        orderService.beginAttempt();
+
+        assertThat(orderService.getCheckoutContext()).isNotSameAs(firstAttempt);
+        assertThat(productService.countApplicablePromotionSets(orderService.getCheckoutContext(), "콜라", 9))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 정리된_세션을_쓰던_주문은_만료를_알림() {
+        SessionManager sessionManager = new SessionManager(10, Duration.ofMinutes(30), now::get);
+        OrderService orderService = new OrderService(new ProductService(new FileReader()), new SalesAggregator(),
+                sessionManager).forSession("customer");
+        orderService.addToCart("물", 2, false);
+        now.addAndGet(Duration.ofMinutes(31).toNanos());
+        sessionManager.evictIdle();
+
+        assertThatThrownBy(orderService::getCart)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ErrorCode.SESSION_EXPIRED.getMessage());
+        assertThat(orderService.getCart().getOrders()).isEmpty();
+    }
+
+    @Test
+    void 동시에_열어도_최대_세션_수를_넘지_않음() throws InterruptedException {
+        SessionManager sessionManager = new SessionManager(50, Duration.ofMinutes(30), now::get);
+        List<Thread> threads = IntStream.range(0, 8)
+                .mapToObj(thread -> new Thread(() -> IntStream.range(0, 100).forEach(index -> {
+                    try {
+                        sessionManager.open(thread + "-" + index);
+                    } catch (IllegalArgumentException ignored) {
+                    }
+                })))
+                .toList();
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(sessionManager.size()).isEqualTo(50);
+    }
+
+    @Test
+    void 유휴_세션은_제거() {
+        SessionManager sessionManager = new SessionManager(10, Duration.ofMinutes(30), now::get);
+        sessionManager.open("idle");
+        now.addAndGet(Duration.ofMinutes(20).toNanos());
+        sessionManager.open("active");
+        now.addAndGet(Duration.ofMinutes(15).toNanos());
+
+        assertThat(sessionManager.evictIdle()).isEqualTo(1);
+        assertThat(sessionManager.find("idle")).isEmpty();
+        assertThat(sessionManager.find("active")).isPresent();
+    }
+
+    @Test
+    void 최대_세션_수에_닿지_않아도_유휴_세션은_정리() {
+        SessionManager sessionManager = new SessionManager(10, Duration.ofMinutes(30), now::get);
+        CheckoutSession idle = sessionManager.open("idle");
+        now.addAndGet(Duration.ofMinutes(31).toNanos());
+        sessionManager.open("active");
+
+        assertThat(sessionManager.find("idle")).isEmpty();
+        assertThat(idle.isEvicted()).isTrue();
+        assertThat(sessionManager.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 만료된_세션을_다시_열어도_미리_지정한_응답과_목록_조건_유지() {
+        SessionManager sessionManager = new SessionManager(10, Duration.ofMinutes(30), now::get);
+        OrderService orderService = new OrderService(new ProductService(new FileReader()), new SalesAggregator(),
+                sessionManager);
+        PresetAnswers presetAnswers = PresetAnswers.parse("membership=N");
+        ProductQuery productQuery = ProductQuery.parse("size=2,instock");
+        orderService.presetAnswers(presetAnswers);
+        orderService.productQuery(productQuery);
+        orderService.addToCart("물", 2, false);
+        now.addAndGet(Duration.ofMinutes(31).toNanos());
+        sessionManager.open("other");
+
+        assertThatThrownBy(orderService::getCart)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ErrorCode.SESSION_EXPIRED.getMessage());
+        assertThat(orderService.getCart().getOrders()).isEmpty();
+        assertThat(orderService.getPresetAnswers()).isSameAs(presetAnswers);
+        assertThat(orderService.getProductQuery()).isSameAs(productQuery);
+    }
+
+    @Test
+    void 최대_세션_수를_넘으면_유휴_세션부터_정리() {
+        SessionManager sessionManager = new SessionManager(2, Duration.ofMinutes(30), now::get);
+        sessionManager.open("a");
+        sessionManager.open("b");
+
+        assertThatThrownBy(() -> sessionManager.open("c"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ErrorCode.TOO_MANY_SESSIONS.getMessage());
+
+        now.addAndGet(Duration.ofMinutes(31).toNanos());
+        sessionManager.open("c");
+
+        assertThat(sessionManager.size()).isEqualTo(1);
+    }
+
+    @Test
+    void 닫힌_세션의_장바구니는_다음_세션에_넘기지_않음() {
+        SessionManager sessionManager = new SessionManager(10, Duration.ofMinutes(30), now::get);
+        CheckoutSession closed = sessionManager.open("closed");
+        Cart cart = closed.getCart();
+        sessionManager.close("closed");
+
+        assertThat(sessionManager.open("next").getCart()).isNotSameAs(cart);
+        assertThat(closed.getCart()).isSameAs(cart);
+    }
+}
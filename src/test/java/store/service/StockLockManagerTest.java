@@ -0,0 +1,56 @@
+package store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import store.model.Product;
+import store.service.StockLockManager.StockLocks;
+import store.util.FileReader;
+
+class StockLockManagerTest {
+    @Test
+    void 일부_상품의_재고가_부족하면_전체_주문을_반영하지_않음() {
+        ProductService productService = new ProductService(new FileReader());
+        OrderService first = new OrderService(productService).forSession("first");
+        OrderService second = first.forSession("second");
+        first.processOrder("물", 8);
+        second.processOrder("비타민워터", 2);
+        second.processOrder("물", 5);
+
+        first.applyPendingOrders();
+
+        assertThatThrownBy(second::applyPendingOrders)
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(productService.findOriginalProduct("물").getNormalStock()).isEqualTo(2);
+        assertThat(productService.findOriginalProduct("비타민워터").getNormalStock()).isEqualTo(6);
+        assertThat(second.getCart().getOrders()).isEmpty();
+    }
+
+    @Test
+    void 서로_다른_상품은_동시에_잠금() throws Exception {
+        StockLockManager lockManager = new StockLockManager();
+        try (StockLocks locks = lockManager.lockAll(List.of("콜라", "사이다"))) {
+            boolean acquired = CompletableFuture.supplyAsync(() -> {
+                try (StockLocks other = lockManager.lockAll(List.of("물"))) {
+                    return true;
+                }
+            }).get(1, TimeUnit.SECONDS);
+
+            assertThat(acquired).isTrue();
+        }
+    }
+
+    @Test
+    void 같은_이름은_항상_같은_순서의_잠금으로_변환() {
+        StockLockManager lockManager = new StockLockManager(4);
+        int cola = lockManager.stripeOf("콜라");
+
+        lockManager.stripeOf("사이다");
+
+        assertThat(lockManager.stripeOf("콜라")).isEqualTo(cola);
+    }
+}
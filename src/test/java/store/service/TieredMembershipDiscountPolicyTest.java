@@ -0,0 +1,45 @@
+package store.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import store.model.MembershipTier;
+import store.exception.ErrorCode;
+
+class TieredMembershipDiscountPolicyTest {
+    private final MembershipDiscountPolicy policy = TieredMembershipDiscountPolicy.of(List.of(
+            new MembershipTier(100_000, 40, 20_000),
+            new MembershipTier(0, 30, 8_000)
+    ));
+
+    @Test
+    void 금액_구간별_할인율과_한도_적용() {
+        assertThat(policy.calculateDiscount(10_000)).isEqualTo(3_000L);
+        assertThat(policy.calculateDiscount(50_000)).isEqualTo(8_000L);
+        assertThat(policy.calculateDiscount(100_000)).isEqualTo(20_000L);
+        assertThat(policy.calculateDiscount(0)).isEqualTo(0L);
+    }
+
+    @Test
+    void 큰_금액도_오버플로_없이_계산() {
+        MembershipDiscountPolicy unlimited = TieredMembershipDiscountPolicy.of(List.of(
+                new MembershipTier(0, 30, Long.MAX_VALUE)
+        ));
+
+        assertThat(unlimited.calculateDiscount(Long.MAX_VALUE / 10)).isEqualTo(Long.MAX_VALUE / 10 * 3 / 10);
+        assertThat(unlimited.calculateDiscount(3_000_000_000L)).isEqualTo(900_000_000L);
+    }
+
+    @Test
+    void 할인_금액이_범위를_넘으면_오류() {
+        MembershipDiscountPolicy excessive = TieredMembershipDiscountPolicy.of(List.of(
+                new MembershipTier(0, 1000, Long.MAX_VALUE)
+        ));
+
+        assertThatThrownBy(() -> excessive.calculateDiscount(Long.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ErrorCode.AMOUNT_OVERFLOW.getMessage());
+    }
+}
@@ -0,0 +1,67 @@
+package store.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import store.model.MembershipTier;
+import store.model.Product;
+import store.model.Promotion;
+import store.service.ProductService;
+import store.util.FileReader;
+import store.util.StoreClock;
+
+class StartupWarmUpTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 10, 0);
+
+    @Test
+    void 복사한_카탈로그로만_결제를_반복() {
+        ProductService productService = new ProductService(new TestFileReader(), StoreClock.fixed(NOW));
+
+        int completed = new StartupWarmUp(productService).run(3);
+
+        assertThat(completed).isEqualTo(3);
+        assertThat(productService.findOriginalProduct("콜라").getPromotionalStock()).isEqualTo(10);
+        assertThat(productService.getInventorySnapshot().getTotalStock("콜라")).isEqualTo(20);
+    }
+
+    @Test
+    void 멤버십_등급은_다시_읽지_않고_분할_재고_설정을_복사본에도_적용() {
+        TestFileReader fileReader = new TestFileReader();
+        ProductService productService = new ProductService(fileReader, StoreClock.fixed(NOW));
+        productService.enableShardedStock(List.of("콜라"));
+
+        int completed = new StartupWarmUp(productService).run(4);
+
+        assertThat(completed).isEqualTo(4);
+        assertThat(fileReader.membershipReads.get()).isEqualTo(1);
+        assertThat(productService.getShardedProducts()).containsExactly("콜라");
+        assertThat(productService.getInventorySnapshot().getTotalStock("콜라")).isEqualTo(20);
+    }
+
+    private static class TestFileReader extends FileReader {
+        private final AtomicInteger membershipReads = new AtomicInteger();
+
+        @Override
+        public List<MembershipTier> getMembershipTiers() {
+            membershipReads.incrementAndGet();
+            return List.of(new MembershipTier(0, 30, 8_000));
+        }
+
+        @Override
+        public List<Product> getProducts() {
+            return List.of(
+                    new Product("콜라", 1000, 10, "탄산2+1"),
+                    new Product("콜라", 1000, 10, null),
+                    new Product("물", 500, 0, null)
+            );
+        }
+
+        @Override
+        public List<Promotion> getPromotions() {
+            return List.of(new Promotion("탄산2+1", 2, 1, NOW.minusDays(1), NOW.plusDays(1)));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package store.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import store.model.Promotion;
+import store.util.StoreClock;
+
+class TrafficGeneratorTest {
+    private final TrafficProfile profile = TrafficProfile.defaults(42L)
+            .withProductCount(20)
+            .withOrderCount(500)
+            .withTargetRate(100_000)
+            .withThreads(1);
+
+    @Test
+    void 같은_시드는_같은_주문을_생성() {
+        TrafficGenerator first = new TrafficGenerator(profile);
+        TrafficGenerator second = new TrafficGenerator(profile);
+
+        assertThat(first.generateScripts()).isEqualTo(second.generateScripts());
+        assertThat(first.getProductService().getProducts().size())
+                .isEqualTo(second.getProductService().getProducts().size());
+    }
+
+    @Test
+    void 모든_주문을_처리하고_결과를_집계() {
+        SimulationReport report = new TrafficGenerator(profile).run();
+
+        assertThat(report.completed() + report.rejected() + report.errors()).isEqualTo(500);
+        assertThat(report.completed()).isGreaterThan(0);
+        assertThat(report.errors()).isEqualTo(0);
+        assertThat(report.oversoldUnits()).isEqualTo(0L);
+        assertThat(report.percentile(99).compareTo(report.percentile(50))).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void 합성_프로모션_기간은_주어진_시계_기준() {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+        List<Promotion> promotions = new SyntheticCatalog(20, 42L, StoreClock.fixed(start)).getPromotions();
+
+        assertThat(promotions.stream().allMatch(promotion -> promotion.isValid(start))).isTrue();
+        assertThat(promotions.stream().noneMatch(promotion -> promotion.isValid(start.minusYears(2)))).isTrue();
+    }
+}
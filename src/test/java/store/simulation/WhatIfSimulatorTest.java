@@ -0,0 +1,84 @@
+package store.simulation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import store.model.Catalog;
+import store.model.Money;
+import store.model.OrderRequest;
+import store.model.Product;
+import store.model.Promotion;
+import store.model.Quote;
+import store.service.OrderService;
+import store.service.ProductService;
+
+class WhatIfSimulatorTest {
+    private final LocalDateTime now = LocalDateTime.now();
+    private final Product promotionCola = new Product("콜라", 1000, 10, "탄산2+1");
+    private final Catalog snapshot = Catalog.of(
+            List.of(promotionCola, new Product("콜라", 1000, 10, null), new Product("물", 500, 10, null)),
+            List.of(new Promotion("탄산2+1", 2, 1, now.minusDays(1), now.plusDays(1))));
+    private final List<OrderScript> carts = List.of(
+            new OrderScript(List.of(new OrderRequest("콜라", 3)), false, false),
+            new OrderScript(List.of(new OrderRequest("콜라", 3), new OrderRequest("물", 2)), false, true),
+            new OrderScript(List.of(new OrderRequest("콜라", 30)), false, false));
+
+    @Test
+    void 후보_프로모션으로_장바구니를_재계산() {
+        WhatIfReport report = new WhatIfSimulator(snapshot, snapshot.getPromotions()).run(carts);
+
+        assertThat(report.repricedCarts()).isEqualTo(2);
+        assertThat(report.rejectedCarts()).isEqualTo(1);
+        assertThat(report.revenue()).isEqualTo(Money.of(7000));
+        assertThat(report.promotionDiscount()).isEqualTo(Money.of(2000));
+        assertThat(report.membershipDiscount()).isEqualTo(Money.of(300));
+        assertThat(report.products().get("콜라")).isEqualTo(new ProductImpact(6, 2, 20));
+        assertThat(report.products().get("물").remainingStock()).isEqualTo(8L);
+    }
+
+    @Test
+    void 프로모션을_빼면_증정_없이_계산() {
+        WhatIfReport report = new WhatIfSimulator(snapshot, List.of()).run(carts);
+
+        assertThat(report.promotionDiscount()).isEqualTo(Money.ZERO);
+        assertThat(report.getFreeItems()).isEqualTo(0L);
+    }
+
+    @Test
+    void 실제_주문_견적과_같은_금액으로_계산() {
+        List<OrderRequest> lines = List.of(new OrderRequest("콜라", 7), new OrderRequest("물", 3));
+        Quote quote = new OrderService(new ProductService(new SnapshotCatalog(snapshot.getProducts(),
+                snapshot.getPromotions()))).quote(lines, true);
+
+        WhatIfReport report = new WhatIfSimulator(snapshot, snapshot.getPromotions())
+                .run(List.of(new OrderScript(lines, false, true)));
+
+        assertThat(report.revenue()).isEqualTo(quote.totalPrice());
+        assertThat(report.promotionDiscount()).isEqualTo(quote.promotionDiscount());
+        assertThat(report.membershipDiscount()).isEqualTo(quote.membershipDiscount());
+    }
+
+    @Test
+    void 앞선_장바구니가_판매한_재고는_다음_장바구니에서_제외() {
+        List<OrderScript> rush = List.of(
+                new OrderScript(List.of(new OrderRequest("물", 6)), false, false),
+                new OrderScript(List.of(new OrderRequest("물", 6)), false, false));
+        WhatIfSimulator simulator = new WhatIfSimulator(snapshot, snapshot.getPromotions());
+
+        WhatIfReport report = simulator.run(rush);
+
+        assertThat(report.repricedCarts()).isEqualTo(1);
+        assertThat(report.rejectedCarts()).isEqualTo(1);
+        assertThat(report.products().get("물").remainingStock()).isEqualTo(4L);
+        assertThat(simulator.run(rush).repricedCarts()).isEqualTo(1);
+    }
+
+    @Test
+    void 원본_재고는_바뀌지_않음() {
+        new WhatIfSimulator(snapshot, snapshot.getPromotions()).run(carts);
+
+        assertThat(promotionCola.getPromotionalStock()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,31 @@
+package store.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class JamoTest {
+    @Test
+    void 음절을_초성_중성_종성으로_분해() {
+        assertThat(Jamo.decompose("콜러")).isEqualTo("콜러");
+        assertThat(Jamo.decompose("각")).isEqualTo("각");
+        assertThat(Jamo.decompose("힣")).isEqualTo("힣");
+    }
+
+    @Test
+    void 종성이_없으면_초성과_중성만_남김() {
+        assertThat(Jamo.decompose("가")).isEqualTo("가");
+    }
+
+    @Test
+    void 한글_음절이_아니면_소문자로_그대로_둠() {
+        assertThat(Jamo.decompose("Cola 1.5L")).isEqualTo("cola 1.5l");
+        assertThat(Jamo.decompose("ㄱ")).isEqualTo("ㄱ");
+        assertThat(Jamo.decompose("")).isEmpty();
+    }
+
+    @Test
+    void 한글과_영문이_섞이면_음절만_분해() {
+        assertThat(Jamo.decompose("A각")).isEqualTo("a각");
+    }
+}
@@ -0,0 +1,34 @@
+package store.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class NameSearchIndexTest {
+    private final NameSearchIndex index = NameSearchIndex.of(List.of(
+            "콜라", "콜라", "사이다", "오렌지주스", "초코바", "컵라면", "탄산수"
+    ));
+
+    @Test
+    void 오타가_있는_상품명을_제안() {
+        assertThat(index.suggest("콜러", 3)).containsExactly("콜라");
+        assertThat(index.suggest("사이디", 3)).containsExactly("사이다");
+    }
+
+    @Test
+    void 앞부분만_입력해도_제안() {
+        assertThat(index.suggest("오렌", 3)).containsExactly("오렌지주스");
+    }
+
+    @Test
+    void 비슷한_상품이_없으면_제안하지_않음() {
+        assertThat(index.suggest("정식도시락", 3)).isEmpty();
+        assertThat(index.suggest(" ", 3)).isEmpty();
+    }
+
+    @Test
+    void 중복된_이름은_한_번만_색인() {
+        assertThat(index.size()).isEqualTo(6);
+    }
+}
@@ -0,0 +1,69 @@
+package store.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import store.model.Product;
+import store.model.Promotion;
+import store.service.ProductService;
+
+class StoreClockTest {
+    private static final LocalDateTime START = LocalDateTime.of(2024, 6, 1, 9, 0);
+
+    @Test
+    void 고정_시계_기준으로_프로모션_적용() {
+        ProductService during = new ProductService(new TestFileReader(), StoreClock.fixed(START));
+        ProductService after = new ProductService(new TestFileReader(),
+                StoreClock.fixed(LocalDateTime.of(2025, 1, 1, 0, 0)));
+
+        assertThat(during.getPromotionalFreeQuantity("콜라")).isEqualTo(1);
+        assertThat(after.getPromotionalFreeQuantity("콜라")).isEqualTo(0);
+        assertThat(after.findProduct("콜라").hasPromotion()).isFalse();
+    }
+
+    @Test
+    void 재생_시계는_배속으로_진행() {
+        AtomicLong nanos = new AtomicLong(500);
+        StoreClock clock = StoreClock.replay(START, 60, nanos::get);
+
+        assertThat(clock.now()).isEqualTo(START);
+        nanos.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(clock.now()).isEqualTo(START.plusMinutes(1));
+        assertThat(clock.toWallDuration(Duration.ofHours(1))).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void 시계_설정_파싱() {
+        assertThat(StoreClock.parse("fixed:2024-06-01T09:00").now()).isEqualTo(START);
+        assertThat(StoreClock.parse("replay:2024-06-01T09:00@120").now().isBefore(START)).isFalse();
+        assertThat(StoreClock.parse("fixed:2024-06-01T09:00").isFixed()).isTrue();
+        assertThat(StoreClock.parse("replay:2024-06-01T09:00@120").isFixed()).isFalse();
+        assertThatThrownBy(() -> StoreClock.parse("fixed:어제"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StoreClock.parse("replay:2024-06-01T09:00@0"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StoreClock.parse("lunar"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class TestFileReader extends FileReader {
+        @Override
+        public List<Product> getProducts() {
+            return List.of(
+                    new Product("콜라", 1000, 10, "탄산2+1"),
+                    new Product("콜라", 1000, 10, null)
+            );
+        }
+
+        @Override
+        public List<Promotion> getPromotions() {
+            return List.of(new Promotion("탄산2+1", 2, 1,
+                    LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 12, 31, 23, 59, 59)));
+        }
+    }
+}
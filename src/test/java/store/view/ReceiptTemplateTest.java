@@ -0,0 +1,65 @@
+package store.view;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import store.model.Cart;
+import store.model.Money;
+import store.model.Order;
+import store.model.Product;
+import store.util.ByteBufferPool;
+
+class ReceiptTemplateTest {
+    private ReceiptTemplate receiptTemplate;
+    private ByteBufferPool pool;
+    private Cart cart;
+
+    @BeforeEach
+    void setUp() {
+        receiptTemplate = new ReceiptTemplate();
+        pool = new ByteBufferPool(64, 1);
+        cart = new Cart();
+        cart.addOrder(new Order(new Product("정식도시락", 6400, 8, null), 200, false));
+        cart.addOrder(new Order(new Product("water", 500, 10, null), 2, false));
+    }
+
+    @Test
+    void 한글_이름은_두_칸_너비로_정렬() {
+        assertThat(ReceiptTemplate.displayWidth("정식도시락")).isEqualTo(10);
+        assertThat(ReceiptTemplate.displayWidth("water")).isEqualTo(5);
+
+        String receipt = render(0, 0);
+
+        assertThat(receipt).contains("정식도시락" + " ".repeat(10) + "200      1,280,000\n");
+        assertThat(receipt).contains("water" + " ".repeat(15) + "2        1,000\n");
+    }
+
+    @Test
+    void 할인과_최종_금액_출력() {
+        String receipt = render(1000, 8000);
+
+        assertThat(receipt).contains("행사할인" + " ".repeat(21) + "-1,000\n");
+        assertThat(receipt).contains("멤버십할인" + " ".repeat(19) + "-8,000\n");
+        assertThat(receipt).contains("내실돈" + " ".repeat(23) + "1,272,000\n");
+    }
+
+    @Test
+    void 버퍼가_부족하면_더_큰_버퍼로_다시_렌더링() {
+        ByteBuffer buffer = receiptTemplate.render(cart, Money.of(1_281_000), Money.ZERO, Money.ZERO, pool);
+
+        assertThat(buffer.isDirect()).isTrue();
+        assertThat(buffer.capacity()).isGreaterThan(64);
+    }
+
+    private String render(int promotionDiscount, int membershipDiscount) {
+        ByteBuffer buffer = receiptTemplate.render(cart, cart.calculateTotalPrice(), Money.of(promotionDiscount),
+                Money.of(membershipDiscount), pool);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        pool.release(buffer);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}